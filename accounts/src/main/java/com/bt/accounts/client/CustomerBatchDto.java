@@ -0,0 +1,17 @@
+package com.bt.accounts.client;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerBatchDto {
+
+    private Map<Long, CustomerDto> customers;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,15 @@
+package com.bt.accounts.client;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerBatchRequest {
+
+    private List<Long> ids;
+}
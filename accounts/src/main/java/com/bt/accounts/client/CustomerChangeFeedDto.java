@@ -0,0 +1,47 @@
+package com.bt.accounts.client;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerChangeFeedDto {
+
+    private List<Change> changes;
+    private Long nextOffset;
+    private Long oldestOffset;
+    private boolean hasMore;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Change {
+
+        private Long offset;
+        private String changeType;
+        private Long customerId;
+        private String username;
+        private String fullName;
+        private String email;
+        private String phoneNumber;
+        private String role;
+        private Boolean active;
+
+        public CustomerDto toCustomer() {
+            return CustomerDto.builder()
+                    .id(customerId)
+                    .customerId(String.valueOf(customerId))
+                    .fullName(fullName)
+                    .email(email)
+                    .phoneNumber(phoneNumber)
+                    .active(active)
+                    .build();
+        }
+    }
+}
@@ -13,6 +13,7 @@ public class CustomerDto {
     private String customerId;
     private String firstName;
     private String lastName;
+    private String fullName;
     private String email;
     private String phoneNumber;
     private String address;
@@ -22,4 +23,5 @@ public class CustomerDto {
     private String dateOfBirth;
     private String kycStatus;
     private String accountStatus;
+    private Boolean active;
 }
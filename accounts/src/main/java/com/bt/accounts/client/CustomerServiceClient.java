@@ -12,6 +12,17 @@ public interface CustomerServiceClient {
             @PathVariable("customerId") String customerId,
             @RequestHeader("Authorization") String token);
 
+    @PostMapping("/api/v1/customers/batch")
+    ApiResponse<CustomerBatchDto> getCustomersByIds(
+            @RequestBody CustomerBatchRequest request,
+            @RequestHeader("Authorization") String token);
+
+    @GetMapping("/api/v1/customers/changes")
+    ApiResponse<CustomerChangeFeedDto> getCustomerChanges(
+            @RequestParam("after") Long after,
+            @RequestParam("limit") Integer limit,
+            @RequestHeader("Authorization") String token);
+
     @GetMapping("/api/v1/customers/validate")
     ApiResponse<Boolean> validateCustomer(
             @RequestHeader("Authorization") String token);
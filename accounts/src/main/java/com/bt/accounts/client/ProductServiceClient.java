@@ -2,6 +2,8 @@ package com.bt.accounts.client;
 
 import com.bt.accounts.dto.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @FeignClient(name = "product-service", url = "${services.product.url}")
@@ -16,4 +18,15 @@ public interface ProductServiceClient {
     ApiResponse<ProductDto> getProductByCode(
             @PathVariable("productCode") String productCode,
             @RequestHeader("Authorization") String token);
+
+    @GetMapping("/api/v1/product/{productCode}")
+    ResponseEntity<ApiResponse<ProductDto>> getProductByCodeIfNoneMatch(
+            @PathVariable("productCode") String productCode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String entityTag,
+            @RequestHeader("Authorization") String token);
+
+    @GetMapping("/api/v1/product/changes")
+    ApiResponse<CatalogChangeFeedDto> getCatalogChanges(
+            @RequestParam(value = "sinceVersion", required = false) Long sinceVersion,
+            @RequestHeader("Authorization") String token);
 }
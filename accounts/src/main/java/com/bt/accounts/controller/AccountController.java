@@ -41,6 +41,24 @@ public class AccountController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @GetMapping("/report")
+    @PreAuthorize("hasAnyRole('BANKOFFICER', 'ADMIN')")
+    @Operation(summary = "Officer account report", description = "Lists FD accounts, optionally filtered by status, with customer names resolved through batched Customer Service lookups")
+    public ResponseEntity<ApiResponse<List<AccountResponse>>> getOfficerReport(
+            @Parameter(description = "Account status filter (ACTIVE, CLOSED, SUSPENDED, MATURED)") @RequestParam(required = false) String status,
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authToken) {
+
+        List<AccountResponse> accounts = accountService.getOfficerReport(status, authToken);
+
+        ApiResponse<List<AccountResponse>> response = ApiResponse.<List<AccountResponse>>builder()
+                .success(true)
+                .message("Account report generated successfully")
+                .data(accounts)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{accountNo}")
     @Operation(summary = "Get account details", description = "Retrieves account information by account number")
     public ResponseEntity<ApiResponse<AccountResponse>> getAccount(
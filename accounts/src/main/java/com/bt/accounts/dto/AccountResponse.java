@@ -1,5 +1,8 @@
 package com.bt.accounts.dto;
 
+import com.bt.web.SparseFieldsetAdvice;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.bt.accounts.entity.FdAccount;
 import lombok.*;
 import java.math.BigDecimal;
@@ -10,11 +13,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(SparseFieldsetAdvice.FILTER_ID)
 public class AccountResponse {
 
     private Long id;
     private String accountNo;
     private String customerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String customerName;
     private String productCode;
     private BigDecimal principalAmount;
     private BigDecimal interestRate;
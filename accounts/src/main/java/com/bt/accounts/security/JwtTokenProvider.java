@@ -1,85 +0,0 @@
-package com.bt.accounts.security;
-
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.stereotype.Component;
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-
-@Component
-public class JwtTokenProvider {
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration}")
-    private Long jwtExpiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-    }
-
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
-
-    public List<GrantedAuthority> getAuthoritiesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        List<GrantedAuthority> authorities = new ArrayList<>();
-
-        // Try to get role from "role" claim (singular)
-        String role = claims.get("role", String.class);
-        if (role != null) {
-            // Add ROLE_ prefix if not present
-            if (!role.startsWith("ROLE_")) {
-                role = "ROLE_" + role;
-            }
-            authorities.add(new SimpleGrantedAuthority(role));
-            return authorities;
-        }
-
-        // Fallback: try to get roles from "roles" claim (plural)
-        List<String> roles = claims.get("roles", List.class);
-        if (roles != null) {
-            for (String r : roles) {
-                if (!r.startsWith("ROLE_")) {
-                    r = "ROLE_" + r;
-                }
-                authorities.add(new SimpleGrantedAuthority(r));
-            }
-        }
-
-        return authorities;
-    }
-
-    public boolean validateToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-}
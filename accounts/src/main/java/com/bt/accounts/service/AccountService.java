@@ -15,9 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,13 +30,17 @@ public class AccountService {
 
     private final FdAccountRepository accountRepository;
     private final CustomerServiceClient customerServiceClient;
-    private final ProductServiceClient productServiceClient;
+    private final ProductLookup productLookup;
     private final FdCalculatorServiceClient fdCalculatorServiceClient;
     private final AccountNumberGenerator accountNumberGenerator;
+    private final CustomerReplica customerReplica;
 
     @Value("${accounts.sequence.prefix:FD}")
     private String accountPrefix;
 
+    @Value("${services.customer.batch-size:500}")
+    private int customerBatchSize = 500;
+
     @Transactional
     public AccountResponse createAccount(AccountCreationRequest request, String authToken) {
         validateUserRole();
@@ -82,6 +89,30 @@ public class AccountService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<AccountResponse> getOfficerReport(String status, String authToken) {
+        validateUserRole();
+
+        List<FdAccount> accounts = status == null
+                ? accountRepository.findAll()
+                : accountRepository.findByStatus(parseStatus(status));
+
+        Map<Long, CustomerDto> customers = fetchCustomers(accounts.stream()
+                .map(FdAccount::getCustomerId)
+                .collect(Collectors.toList()), authToken);
+
+        return accounts.stream()
+                .map(account -> {
+                    AccountResponse response = AccountResponse.fromEntity(account);
+                    CustomerDto customer = customers.get(parseCustomerId(account.getCustomerId()));
+                    if (customer != null) {
+                        response.setCustomerName(customer.getFullName());
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public AccountResponse closeAccount(String accountNo, AccountClosureRequest request) {
         validateUserRole();
@@ -120,6 +151,15 @@ public class AccountService {
     }
 
     private CustomerDto validateCustomer(String customerId, String authToken) {
+        CustomerDto customer = customerReplica.find(parseCustomerId(customerId))
+                .orElseGet(() -> fetchCustomer(customerId, authToken));
+        if (Boolean.FALSE.equals(customer.getActive())) {
+            throw new InvalidAccountDataException("Customer account is not active: " + customerId);
+        }
+        return customer;
+    }
+
+    private CustomerDto fetchCustomer(String customerId, String authToken) {
         try {
             ApiResponse<CustomerDto> response = customerServiceClient.getCustomerById(customerId, authToken);
             if (response.getData() == null) {
@@ -132,9 +172,59 @@ public class AccountService {
         }
     }
 
+    private Map<Long, CustomerDto> fetchCustomers(List<String> customerIds, String authToken) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String customerId : customerIds) {
+            Long id = parseCustomerId(customerId);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+
+        Map<Long, CustomerDto> customers = new HashMap<>();
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += customerBatchSize) {
+            List<Long> chunk = pending.subList(from, Math.min(from + customerBatchSize, pending.size()));
+            try {
+                ApiResponse<CustomerBatchDto> response = customerServiceClient.getCustomersByIds(
+                        CustomerBatchRequest.builder().ids(chunk).build(), authToken);
+                CustomerBatchDto batch = response.getData();
+                if (batch == null) {
+                    continue;
+                }
+                if (batch.getCustomers() != null) {
+                    customers.putAll(batch.getCustomers());
+                }
+                if (batch.getMissingIds() != null && !batch.getMissingIds().isEmpty()) {
+                    log.warn("Customers not found for report: {}", batch.getMissingIds());
+                }
+            } catch (FeignException e) {
+                log.error("Failed to fetch {} customers in batch", chunk.size(), e);
+                throw new ServiceIntegrationException("Failed to fetch customers from Customer Service", e);
+            }
+        }
+        return customers;
+    }
+
+    private Long parseCustomerId(String customerId) {
+        try {
+            return customerId != null ? Long.valueOf(customerId) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private FdAccount.AccountStatus parseStatus(String status) {
+        try {
+            return FdAccount.AccountStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAccountDataException("Unknown account status: " + status);
+        }
+    }
+
     private ProductDto validateProduct(String productCode, String authToken) {
         try {
-            ApiResponse<ProductDto> response = productServiceClient.getProductByCode(productCode, authToken);
+            ApiResponse<ProductDto> response = productLookup.getProductByCode(productCode, authToken);
             if (response.getData() == null) {
                 throw new ProductNotFoundException("Product not found: " + productCode);
             }
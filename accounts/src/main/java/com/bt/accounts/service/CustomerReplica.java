@@ -0,0 +1,67 @@
+package com.bt.accounts.service;
+
+import com.bt.accounts.client.CustomerChangeFeedDto;
+import com.bt.accounts.client.CustomerDto;
+import com.bt.accounts.client.CustomerServiceClient;
+import com.bt.accounts.dto.ApiResponse;
+import com.bt.feed.ChangeFeedReplica;
+import com.bt.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerReplica {
+
+    private final CustomerServiceClient customerServiceClient;
+    private final JwtTokenProvider tokenProvider;
+
+    @Value("${spring.application.name:accounts-service}")
+    private String serviceName;
+
+    @Value("${services.customer.change-feed.page-size:500}")
+    private int pageSize = 500;
+
+    @Value("${services.customer.change-feed.max-pages-per-poll:20}")
+    private int maxPagesPerPoll = 20;
+
+    private final ChangeFeedReplica<Long, CustomerDto> replica = new ChangeFeedReplica<>("customer");
+
+    public Optional<CustomerDto> find(Long customerId) {
+        return replica.find(customerId);
+    }
+
+    public long getOffset() {
+        return replica.getOffset();
+    }
+
+    public boolean isCaughtUp() {
+        return replica.isCaughtUp();
+    }
+
+    @Scheduled(fixedDelayString = "${services.customer.change-feed.poll-interval-ms:5000}")
+    public void poll() {
+        String token = "Bearer " + tokenProvider.generateServiceToken(serviceName);
+        replica.poll(offset -> page(customerServiceClient.getCustomerChanges(offset, pageSize, token)),
+                maxPagesPerPoll);
+    }
+
+    private static ChangeFeedReplica.Page<Long, CustomerDto> page(
+            ApiResponse<CustomerChangeFeedDto> response) {
+        CustomerChangeFeedDto feed = response != null ? response.getData() : null;
+        if (feed == null) {
+            return null;
+        }
+        List<Map.Entry<Long, CustomerDto>> upserts = feed.getChanges() == null ? List.of()
+                : feed.getChanges().stream()
+                        .map(change -> Map.entry(change.getCustomerId(), change.toCustomer()))
+                        .toList();
+        return new ChangeFeedReplica.Page<>(upserts, feed.getNextOffset(), feed.getOldestOffset(), feed.isHasMore());
+    }
+}
@@ -2,7 +2,7 @@ package com.bt.accounts.controller;
 
 import com.bt.accounts.dto.*;
 import com.bt.accounts.security.JwtAuthenticationFilter;
-import com.bt.accounts.security.JwtTokenProvider;
+import com.bt.security.JwtTokenProvider;
 import com.bt.accounts.service.AccountService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,9 +20,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,7 +37,7 @@ class AccountServiceTest {
     private CustomerServiceClient customerServiceClient;
 
     @Mock
-    private ProductServiceClient productServiceClient;
+    private ProductLookup productLookup;
 
     @Mock
     private FdCalculatorServiceClient fdCalculatorServiceClient;
@@ -44,6 +45,9 @@ class AccountServiceTest {
     @Mock
     private AccountNumberGenerator accountNumberGenerator;
 
+    @Mock
+    private CustomerReplica customerReplica;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -112,7 +116,7 @@ class AccountServiceTest {
     void createAccount_WithValidData_ShouldSucceed() {
         when(customerServiceClient.getCustomerById(any(), any()))
                 .thenReturn(ApiResponse.<CustomerDto>builder().data(customerDto).build());
-        when(productServiceClient.getProductByCode(any(), any()))
+        when(productLookup.getProductByCode(any(), any()))
                 .thenReturn(ApiResponse.<ProductDto>builder().data(productDto).build());
         when(fdCalculatorServiceClient.calculateFd(any(), any()))
                 .thenReturn(ApiResponse.<FdCalculationDto>builder().data(calculationDto).build());
@@ -142,13 +146,24 @@ class AccountServiceTest {
         assertThrows(CustomerNotFoundException.class, () -> accountService.createAccount(validRequest, authToken));
     }
 
+    @Test
+    void createAccount_WithReplicatedInactiveCustomer_ShouldThrowWithoutRemoteCall() {
+        validRequest.setCustomerId("42");
+        customerDto.setActive(false);
+        when(customerReplica.find(42L)).thenReturn(Optional.of(customerDto));
+
+        assertThrows(InvalidAccountDataException.class, () -> accountService.createAccount(validRequest, authToken));
+        verify(customerServiceClient, never()).getCustomerById(any(), any());
+        verify(accountRepository, never()).save(any());
+    }
+
     @Test
     void createAccount_WithPrincipalBelowMinimum_ShouldThrowException() {
         validRequest.setPrincipalAmount(new BigDecimal("5000"));
 
         when(customerServiceClient.getCustomerById(any(), any()))
                 .thenReturn(ApiResponse.<CustomerDto>builder().data(customerDto).build());
-        when(productServiceClient.getProductByCode(any(), any()))
+        when(productLookup.getProductByCode(any(), any()))
                 .thenReturn(ApiResponse.<ProductDto>builder().data(productDto).build());
 
         assertThrows(InvalidAccountDataException.class, () -> accountService.createAccount(validRequest, authToken));
@@ -160,7 +175,7 @@ class AccountServiceTest {
 
         when(customerServiceClient.getCustomerById(any(), any()))
                 .thenReturn(ApiResponse.<CustomerDto>builder().data(customerDto).build());
-        when(productServiceClient.getProductByCode(any(), any()))
+        when(productLookup.getProductByCode(any(), any()))
                 .thenReturn(ApiResponse.<ProductDto>builder().data(productDto).build());
 
         assertThrows(InvalidAccountDataException.class, () -> accountService.createAccount(validRequest, authToken));
@@ -253,4 +268,39 @@ class AccountServiceTest {
         assertEquals("ACC001", responses.get(0).getAccountNo());
         assertEquals("ACC002", responses.get(1).getAccountNo());
     }
+
+    @Test
+    void getOfficerReport_ShouldResolveCustomersInOneBatchCall() {
+        List<FdAccount> accounts = Arrays.asList(
+                FdAccount.builder().id(1L).accountNo("ACC001").customerId("1").status(FdAccount.AccountStatus.ACTIVE).build(),
+                FdAccount.builder().id(2L).accountNo("ACC002").customerId("2").status(FdAccount.AccountStatus.ACTIVE).build(),
+                FdAccount.builder().id(3L).accountNo("ACC003").customerId("1").status(FdAccount.AccountStatus.ACTIVE).build());
+        when(accountRepository.findByStatus(FdAccount.AccountStatus.ACTIVE)).thenReturn(accounts);
+
+        CustomerDto customer = CustomerDto.builder().id(1L).fullName("John Doe").build();
+        when(customerServiceClient.getCustomersByIds(any(CustomerBatchRequest.class), eq(authToken)))
+                .thenReturn(ApiResponse.<CustomerBatchDto>builder()
+                        .success(true)
+                        .data(CustomerBatchDto.builder()
+                                .customers(Map.of(1L, customer))
+                                .missingIds(List.of(2L))
+                                .build())
+                        .build());
+
+        List<AccountResponse> report = accountService.getOfficerReport("active", authToken);
+
+        assertEquals(3, report.size());
+        assertEquals("John Doe", report.get(0).getCustomerName());
+        assertNull(report.get(1).getCustomerName());
+        assertEquals("John Doe", report.get(2).getCustomerName());
+        verify(customerServiceClient, times(1)).getCustomersByIds(
+                argThat(request -> request.getIds().equals(List.of(1L, 2L))), eq(authToken));
+        verify(customerServiceClient, never()).getCustomerById(anyString(), anyString());
+    }
+
+    @Test
+    void getOfficerReport_WithUnknownStatus_ShouldThrowException() {
+        assertThrows(InvalidAccountDataException.class,
+                () -> accountService.getOfficerReport("pending", authToken));
+    }
 }
@@ -0,0 +1,63 @@
+package com.bt.customer.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private static final String ANONYMOUS = "";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.recentWriters = windowMillis > 0
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofMillis(windowMillis))
+                        .maximumSize(100_000)
+                        .build()
+                : null;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            markWrite();
+        }
+    }
+
+    public void markWrite() {
+        if (recentWriters != null) {
+            recentWriters.put(currentCaller(), Boolean.TRUE);
+        }
+    }
+
+    public boolean hasRecentWrite() {
+        return recentWriters != null && recentWriters.getIfPresent(currentCaller()) != null;
+    }
+
+    public void clear() {
+        if (recentWriters != null) {
+            recentWriters.invalidateAll();
+        }
+    }
+
+    private static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            return ANONYMOUS;
+        }
+        return "thread:" + Thread.currentThread().getName();
+    }
+}
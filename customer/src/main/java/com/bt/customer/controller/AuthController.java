@@ -3,7 +3,9 @@ package com.bt.customer.controller;
 import com.bt.customer.dto.AuthResponse;
 import com.bt.customer.dto.LoginRequest;
 import com.bt.customer.dto.RegisterRequest;
+import com.bt.customer.exception.InvalidCredentialsException;
 import com.bt.customer.service.AuthService;
+import com.bt.customer.service.TokenRevocationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +27,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/register")
     @Operation(summary = "Register new user", description = "Creates a new user account with encrypted password. Default role is CUSTOMER.")
     @ApiResponses(value = {
@@ -47,4 +53,18 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Log out", description = "Revokes the presented JWT so that every service rejects it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked"),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid or expired token")
+    })
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new InvalidCredentialsException("Bearer token required");
+        }
+        tokenRevocationService.revokeToken(authorization.substring(7), "logout");
+        return ResponseEntity.noContent().build();
+    }
 }
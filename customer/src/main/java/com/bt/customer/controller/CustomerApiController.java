@@ -1,14 +1,20 @@
 package com.bt.customer.controller;
 
 import com.bt.customer.dto.ApiResponse;
+import com.bt.customer.dto.CustomerBatchRequest;
+import com.bt.customer.dto.CustomerBatchResponse;
+import com.bt.customer.dto.CustomerChangeFeedResponse;
 import com.bt.customer.dto.UserProfileResponse;
+import com.bt.customer.service.CustomerChangeService;
 import com.bt.customer.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,6 +26,9 @@ public class CustomerApiController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerChangeService changeService;
+
     @GetMapping("/{id}")
     @Operation(summary = "Get customer by ID", description = "Retrieves customer details by ID for inter-service communication")
     public ResponseEntity<ApiResponse<UserProfileResponse>> getCustomerById(@PathVariable Long id) {
@@ -31,6 +40,35 @@ public class CustomerApiController {
                 .build());
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('SERVICE', 'ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Get customers by IDs", description = "Resolves up to " + CustomerBatchRequest.MAX_IDS + " customer IDs with a single query. Found customers are keyed by ID; unknown IDs are listed in missingIds.")
+    public ResponseEntity<ApiResponse<CustomerBatchResponse>> getCustomersByIds(
+            @Valid @RequestBody CustomerBatchRequest request) {
+        CustomerBatchResponse customers = customerService.getCustomersByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponse.<CustomerBatchResponse>builder()
+                .success(true)
+                .message(customers.getMissingIds().isEmpty()
+                        ? "Customers retrieved successfully"
+                        : "Customers retrieved; " + customers.getMissingIds().size() + " not found")
+                .data(customers)
+                .build());
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('SERVICE', 'ADMIN')")
+    @Operation(summary = "Customer change feed", description = "Returns customer profile and status changes after the given offset, oldest first. Consumers keep the returned nextOffset and poll again to maintain a local replica of customers.")
+    public ResponseEntity<ApiResponse<CustomerChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        CustomerChangeFeedResponse changes = changeService.getChanges(after, limit);
+        return ResponseEntity.ok(ApiResponse.<CustomerChangeFeedResponse>builder()
+                .success(true)
+                .message("Customer changes retrieved successfully")
+                .data(changes)
+                .build());
+    }
+
     @GetMapping("/validate")
     @Operation(summary = "Validate customer", description = "Validates if the authenticated customer exists")
     public ResponseEntity<ApiResponse<Boolean>> validateCustomer() {
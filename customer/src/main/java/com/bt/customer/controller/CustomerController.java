@@ -1,10 +1,12 @@
 package com.bt.customer.controller;
 
+import com.bt.customer.dto.CustomerPageResponse;
 import com.bt.customer.dto.StatusResponse;
 import com.bt.customer.dto.UpdateProfileRequest;
 import com.bt.customer.dto.UserProfileResponse;
 import com.bt.customer.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +15,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -43,17 +48,50 @@ public class CustomerController {
 
     @GetMapping("/all")
     @PreAuthorize("hasAnyRole('ADMIN', 'BANKOFFICER')")
-    @Operation(summary = "Get all customers", description = "Returns list of all registered customers. Accessible only by ADMIN and BANKOFFICER roles.")
+    @Operation(summary = "Get all customers", description = "Returns registered customers ordered by ID, one keyset page at a time. Pass the previous page's nextCursor as 'after' to continue. Accessible only by ADMIN and BANKOFFICER roles.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Customers retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Customers retrieved successfully", content = @Content(schema = @Schema(implementation = CustomerPageResponse.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
     })
-    public ResponseEntity<List<UserProfileResponse>> getAllCustomers() {
-        List<UserProfileResponse> customers = customerService.getAllCustomers();
+    public ResponseEntity<CustomerPageResponse> getAllCustomers(
+            @Parameter(description = "Return customers with an ID greater than this cursor") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size, capped at the configured maximum") @RequestParam(required = false) Integer size) {
+        CustomerPageResponse customers = customerService.getCustomers(after, size);
         return ResponseEntity.ok(customers);
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Search customers", description = "Finds customers by partial name, username, email or phone number using an in-memory prefix and trigram index. Results are ranked best match first. Accessible only by ADMIN and BANKOFFICER roles.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching customers, best match first"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
+    })
+    public ResponseEntity<List<UserProfileResponse>> searchCustomers(
+            @Parameter(description = "Search text, e.g. part of a name, email or phone number") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results, capped at the configured maximum") @RequestParam(required = false) Integer limit) {
+        List<UserProfileResponse> customers = customerService.searchCustomers(query, limit);
+        return ResponseEntity.ok(customers);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Export all customers", description = "Streams every customer as newline-delimited JSON, ordered by ID. Rows are read with a fixed fetch size and written as they arrive. Accessible only by ADMIN and BANKOFFICER roles.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing token")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        StreamingResponseBody body = customerService::exportCustomers;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"customers.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PutMapping("/update")
     @Operation(summary = "Update user profile", description = "Updates authenticated user's profile information. Reserved for dashboard integrations.")
     @ApiResponses(value = {
@@ -67,6 +105,21 @@ public class CustomerController {
         return ResponseEntity.ok(updatedProfile);
     }
 
+    @PutMapping("/{id}/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Activate or deactivate a customer", description = "Sets the customer's active flag and publishes the change to the customer change feed. Accessible only by ADMIN.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status updated", content = @Content(schema = @Schema(implementation = UserProfileResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    public ResponseEntity<UserProfileResponse> updateCustomerStatus(
+            @PathVariable Long id,
+            @Parameter(description = "New active status") @RequestParam boolean active) {
+        UserProfileResponse profile = customerService.updateCustomerStatus(id, active);
+        return ResponseEntity.ok(profile);
+    }
+
     @GetMapping("/status")
     @Operation(summary = "Get service status", description = "Returns authenticated user role and service connectivity health check")
     @ApiResponses(value = {
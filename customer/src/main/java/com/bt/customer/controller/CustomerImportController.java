@@ -0,0 +1,50 @@
+package com.bt.customer.controller;
+
+import com.bt.customer.dto.BulkImportResponse;
+import com.bt.customer.service.CustomerImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/customer/import")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Customer Import", description = "Bulk onboarding of customers migrated from legacy systems")
+public class CustomerImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @PostMapping(consumes = { TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk import customers", description = "Streams a CSV (with header username,password,fullName,email[,phoneNumber][,role]) or NDJSON upload of registration records. Rows are checked for uniqueness in chunks, passwords are hashed in parallel and users are inserted with JDBC batching. Invalid rows are reported individually without failing the import. Accessible only by ADMIN.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see per-row errors", content = @Content(schema = @Schema(implementation = BulkImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "CSV header is missing required columns"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions"),
+            @ApiResponse(responseCode = "415", description = "Upload is neither text/csv nor application/x-ndjson")
+    })
+    public ResponseEntity<BulkImportResponse> importCustomers(HttpServletRequest request) throws IOException {
+        CustomerImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(
+                MediaType.parseMediaType(request.getContentType()))
+                        ? CustomerImportService.Format.NDJSON
+                        : CustomerImportService.Format.CSV;
+
+        BulkImportResponse response = customerImportService.importCustomers(request.getInputStream(), format);
+        return ResponseEntity.ok(response);
+    }
+}
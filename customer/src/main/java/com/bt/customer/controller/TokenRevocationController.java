@@ -0,0 +1,52 @@
+package com.bt.customer.controller;
+
+import com.bt.customer.service.TokenRevocationService;
+import com.bt.security.revocation.RevocationList;
+import com.bt.security.revocation.RevocationListSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/auth/revocations")
+@Tag(name = "Token Revocation", description = "Revocation list shared with the other services")
+public class TokenRevocationController {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('SERVICE', 'ADMIN')")
+    @Operation(summary = "Get compiled revocation list", description = "Returns the Bloom filters and exact sets of revoked token ids and users. Responds 304 when the caller already holds the current version.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current revocation list"),
+            @ApiResponse(responseCode = "304", description = "Caller's version is current"),
+            @ApiResponse(responseCode = "403", description = "Service or admin token required")
+    })
+    public ResponseEntity<RevocationListSnapshot> getRevocationList(@RequestParam(required = false) Long since) {
+        RevocationList revocationList = tokenRevocationService.getRevocationList();
+        if (since != null && since == revocationList.getVersion()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(revocationList.toSnapshot());
+    }
+
+    @PostMapping("/users/{username}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke all tokens of a user", description = "Rejects every token issued to the user up to now, e.g. for a compromised account")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable String username,
+            @RequestParam(required = false, defaultValue = "compromised account") String reason) {
+        tokenRevocationService.revokeAllForUser(username, reason);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.bt.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a bulk customer import")
+public class BulkImportResponse {
+
+    @Schema(description = "Data rows read from the upload", example = "20000")
+    private long totalRows;
+
+    @Schema(description = "Customers created", example = "19950")
+    private long imported;
+
+    @Schema(description = "Rows rejected", example = "50")
+    private long failed;
+
+    @Schema(description = "Wall-clock duration of the import in milliseconds", example = "41250")
+    private long durationMs;
+
+    @Schema(description = "Import throughput over all rows read", example = "484.8")
+    private double rowsPerSecond;
+
+    @Schema(description = "Whether more row errors occurred than are listed", example = "false")
+    private boolean errorsTruncated;
+
+    @Builder.Default
+    @Schema(description = "Per-row errors, in input order")
+    private List<RowError> errors = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "A rejected import row")
+    public static class RowError {
+
+        @Schema(description = "1-based line number in the upload", example = "42")
+        private long line;
+
+        @Schema(description = "Username on the rejected row, if it could be read", example = "john_doe")
+        private String username;
+
+        @Schema(description = "Why the row was rejected", example = "Email already registered")
+        private String message;
+    }
+}
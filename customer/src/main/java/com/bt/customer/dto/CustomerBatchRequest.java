@@ -0,0 +1,25 @@
+package com.bt.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request payload for resolving several customers in one call")
+public class CustomerBatchRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one customer ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " customer IDs can be requested at once")
+    @Schema(description = "Customer IDs to resolve", example = "[1, 2, 3]")
+    private List<@NotNull Long> ids;
+}
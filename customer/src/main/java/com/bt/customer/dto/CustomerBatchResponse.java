@@ -0,0 +1,22 @@
+package com.bt.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Customers resolved by a batch lookup")
+public class CustomerBatchResponse {
+
+    @Schema(description = "Found customers keyed by ID, in request order")
+    private Map<Long, UserProfileResponse> customers;
+
+    @Schema(description = "Requested IDs that did not match any customer", example = "[42]")
+    private List<Long> missingIds;
+}
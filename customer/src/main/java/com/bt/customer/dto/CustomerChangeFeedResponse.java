@@ -0,0 +1,83 @@
+package com.bt.customer.dto;
+
+import com.bt.customer.entity.CustomerChange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A page of the customer change feed")
+public class CustomerChangeFeedResponse {
+
+    @Schema(description = "Changes after the requested offset, oldest first")
+    private List<Change> changes;
+
+    @Schema(description = "Offset to pass as 'after' on the next poll", example = "1042")
+    private Long nextOffset;
+
+    @Schema(description = "Oldest offset still retained; a consumer whose offset is older must rebuild its replica", example = "1")
+    private Long oldestOffset;
+
+    @Schema(description = "Whether more changes are immediately available", example = "false")
+    private boolean hasMore;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "State of a customer after a change")
+    public static class Change {
+
+        @Schema(description = "Feed offset of this change", example = "1042")
+        private Long offset;
+
+        @Schema(description = "Kind of change", example = "UPDATED")
+        private String changeType;
+
+        @Schema(description = "Customer ID", example = "1")
+        private Long customerId;
+
+        @Schema(description = "Username", example = "john_doe")
+        private String username;
+
+        @Schema(description = "Full name", example = "John Doe")
+        private String fullName;
+
+        @Schema(description = "Email address", example = "john.doe@example.com")
+        private String email;
+
+        @Schema(description = "Phone number", example = "+1234567890")
+        private String phoneNumber;
+
+        @Schema(description = "User role", example = "CUSTOMER")
+        private String role;
+
+        @Schema(description = "Account active status", example = "true")
+        private Boolean active;
+
+        @Schema(description = "When the change was committed")
+        private LocalDateTime occurredAt;
+
+        public static Change fromEntity(CustomerChange change) {
+            return Change.builder()
+                    .offset(change.getFeedOffset())
+                    .changeType(change.getChangeType().name())
+                    .customerId(change.getCustomerId())
+                    .username(change.getUsername())
+                    .fullName(change.getFullName())
+                    .email(change.getEmail())
+                    .phoneNumber(change.getPhoneNumber())
+                    .role(change.getRole())
+                    .active(change.getActive())
+                    .occurredAt(change.getOccurredAt())
+                    .build();
+        }
+    }
+}
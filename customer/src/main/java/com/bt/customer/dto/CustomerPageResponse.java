@@ -0,0 +1,27 @@
+package com.bt.customer.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Keyset-paginated page of customers")
+public class CustomerPageResponse {
+
+    @Schema(description = "Customers on this page, ordered by ID")
+    private List<UserProfileResponse> content;
+
+    @Schema(description = "Number of customers on this page", example = "50")
+    private int size;
+
+    @Schema(description = "Whether more customers follow this page", example = "true")
+    private boolean hasMore;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page; null on the last page", example = "1050")
+    private Long nextCursor;
+}
@@ -1,5 +1,7 @@
 package com.bt.customer.dto;
 
+import com.bt.web.SparseFieldsetAdvice;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.bt.customer.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(SparseFieldsetAdvice.FILTER_ID)
 @Schema(description = "User profile information")
 public class UserProfileResponse {
 
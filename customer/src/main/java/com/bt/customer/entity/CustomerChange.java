@@ -0,0 +1,79 @@
+package com.bt.customer.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "customer_outbox", indexes = {
+        @Index(name = "idx_customer_outbox_occurred_at", columnList = "occurred_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "feed_offset", unique = true)
+    private Long feedOffset;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Column(nullable = false, length = 100)
+    private String fullName;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    @Column(length = 15)
+    private String phoneNumber;
+
+    @Column(nullable = false, length = 20)
+    private String role;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) {
+            occurredAt = LocalDateTime.now();
+        }
+    }
+
+    public static CustomerChange of(User user, ChangeType changeType) {
+        return CustomerChange.builder()
+                .changeType(changeType)
+                .customerId(user.getId())
+                .username(user.getUsername())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .role(user.getRole().name())
+                .active(user.getActive() == null || user.getActive())
+                .build();
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED
+    }
+}
@@ -0,0 +1,35 @@
+package com.bt.customer.repository;
+
+import com.bt.customer.entity.CustomerChange;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CustomerChangeRepository extends JpaRepository<CustomerChange, Long> {
+
+    Slice<CustomerChange> findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(Long offset, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<CustomerChange> findByFeedOffsetIsNullOrderByIdAsc(Pageable pageable);
+
+    @Query("select coalesce(max(c.feedOffset), 0) from CustomerChange c")
+    long findLatestOffset();
+
+    @Query("select min(c.feedOffset) from CustomerChange c")
+    Long findOldestOffset();
+
+    @Modifying
+    @Transactional
+    @Query("delete from CustomerChange c where c.occurredAt < :cutoff")
+    int deleteByOccurredAtBefore(LocalDateTime cutoff);
+}
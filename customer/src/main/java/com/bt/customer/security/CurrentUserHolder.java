@@ -0,0 +1,34 @@
+package com.bt.customer.security;
+
+import com.bt.customer.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@RequestScope
+public class CurrentUserHolder {
+
+    private String username;
+    private Optional<User> user;
+
+    public Optional<User> getUser(String username, Function<String, Optional<User>> loader) {
+        if (user == null || !username.equals(this.username)) {
+            this.username = username;
+            this.user = loader.apply(username);
+        }
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.username = user.getUsername();
+        this.user = Optional.of(user);
+    }
+
+    public void clear() {
+        this.username = null;
+        this.user = null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bt.customer.security;
 
+import com.bt.security.JwtTokenProvider;
+import com.bt.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -23,7 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserPrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -34,14 +35,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractTokenFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
+            VerifiedToken verified = StringUtils.hasText(jwt) ? tokenProvider.resolve(jwt).orElse(null) : null;
+            if (verified != null) {
+                UsernamePasswordAuthenticationToken authentication;
+                if (JwtTokenProvider.SERVICE_ROLE.equals(verified.getRole())) {
+                    authentication = new UsernamePasswordAuthenticationToken(
+                            verified.getUsername(),
+                            null,
+                            verified.getAuthorities());
+                } else {
+                    UserDetails userDetails = principalCache.getPrincipal(verified.getUsername());
+                    authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities());
+                }
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
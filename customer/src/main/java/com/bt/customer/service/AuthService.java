@@ -1,15 +1,17 @@
 package com.bt.customer.service;
 
 import com.bt.customer.dto.*;
+import com.bt.customer.entity.CustomerChange;
 import com.bt.customer.entity.User;
 import com.bt.customer.exception.InvalidCredentialsException;
 import com.bt.customer.exception.UserAlreadyExistsException;
 import com.bt.customer.repository.UserRepository;
-import com.bt.customer.security.JwtTokenProvider;
+import com.bt.customer.security.PasswordVerifier;
+import com.bt.customer.security.UserPrincipal;
+import com.bt.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -28,15 +30,26 @@ public class AuthService {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private PasswordVerifier passwordVerifier;
+
+    @Autowired
+    private CustomerSearchIndex searchIndex;
+
+    @Autowired
+    private CustomerChangeService changeService;
+
+    @Autowired
+    private UniquenessFilter uniquenessFilter;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
+        if (uniquenessFilter.mightContainUsername(request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
             throw new UserAlreadyExistsException("Username already exists: " + request.getUsername());
         }
 
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (uniquenessFilter.mightContainEmail(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
             throw new UserAlreadyExistsException("Email already registered: " + request.getEmail());
         }
 
@@ -50,7 +63,14 @@ public class AuthService {
                 .active(true)
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException("Username or email already registered: " + request.getUsername());
+        }
+        uniquenessFilter.add(user);
+        changeService.record(user, CustomerChange.ChangeType.CREATED);
+        searchIndex.index(user);
 
         String token = tokenProvider.generateTokenForUser(user.getUsername(), user.getRole().name());
 
@@ -62,26 +82,22 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getUsername(),
-                            request.getPassword()));
+        User user = userRepository.findByUsername(request.getUsername()).orElse(null);
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (!passwordVerifier.matches(request.getPassword(), user != null ? user.getPassword() : null)) {
+            throw new InvalidCredentialsException("Invalid username or password");
+        }
 
-            User user = userRepository.findByUsername(request.getUsername())
-                    .orElseThrow(() -> new InvalidCredentialsException("Invalid credentials"));
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
 
-            String token = tokenProvider.generateTokenForUser(user.getUsername(), user.getRole().name());
+        String token = tokenProvider.generateTokenForUser(user.getUsername(), user.getRole().name());
 
-            return new AuthResponse(
-                    token,
-                    user.getUsername(),
-                    user.getRole().name(),
-                    "Authentication successful");
-        } catch (Exception e) {
-            throw new InvalidCredentialsException("Invalid username or password");
-        }
+        return new AuthResponse(
+                token,
+                user.getUsername(),
+                user.getRole().name(),
+                "Authentication successful");
     }
 }
@@ -0,0 +1,112 @@
+package com.bt.customer.service;
+
+import com.bt.customer.dto.CustomerChangeFeedResponse;
+import com.bt.customer.entity.CustomerChange;
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.CustomerChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class CustomerChangeService {
+
+    @Autowired
+    private CustomerChangeRepository changeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.customer.outbox.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    @Value("${app.customer.outbox.retention-days:30}")
+    private int retentionDays = 30;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(User user, CustomerChange.ChangeType changeType) {
+        changeRepository.save(CustomerChange.of(user, changeType));
+        publishAfterCommit();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<User> users, CustomerChange.ChangeType changeType) {
+        changeRepository.saveAll(users.stream()
+                .map(user -> CustomerChange.of(user, changeType))
+                .collect(Collectors.toList()));
+        publishAfterCommit();
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerChangeFeedResponse getChanges(Long after, Integer limit) {
+        long offset = after == null ? 0L : after;
+        int pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        Slice<CustomerChange> slice = changeRepository.findByFeedOffsetGreaterThanOrderByFeedOffsetAsc(
+                offset, PageRequest.of(0, pageSize));
+
+        List<CustomerChangeFeedResponse.Change> changes = slice.getContent().stream()
+                .map(CustomerChangeFeedResponse.Change::fromEntity)
+                .collect(Collectors.toList());
+
+        return CustomerChangeFeedResponse.builder()
+                .changes(changes)
+                .nextOffset(changes.isEmpty() ? offset : changes.get(changes.size() - 1).getOffset())
+                .oldestOffset(changeRepository.findOldestOffset())
+                .hasMore(slice.hasNext())
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.customer.outbox.publish-interval-ms:1000}")
+    public synchronized void publishPending() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            int published;
+            do {
+                published = template.execute(status -> {
+                    List<CustomerChange> pending = changeRepository.findByFeedOffsetIsNullOrderByIdAsc(
+                            PageRequest.of(0, maxPageSize));
+                    long offset = changeRepository.findLatestOffset();
+                    for (CustomerChange change : pending) {
+                        change.setFeedOffset(++offset);
+                    }
+                    return pending.size();
+                });
+            } while (published == maxPageSize);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Customer changes were published concurrently by another instance; retrying on the next run");
+        }
+    }
+
+    @Scheduled(cron = "${app.customer.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        changeRepository.deleteByOccurredAtBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private void publishAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishPending();
+            }
+        });
+    }
+}
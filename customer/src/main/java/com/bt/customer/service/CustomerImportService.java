@@ -0,0 +1,408 @@
+package com.bt.customer.service;
+
+import com.bt.customer.dto.BulkImportResponse;
+import com.bt.customer.dto.RegisterRequest;
+import com.bt.customer.entity.CustomerChange;
+import com.bt.customer.entity.User;
+import com.bt.customer.exception.InvalidImportException;
+import com.bt.customer.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Service
+public class CustomerImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO users "
+            + "(username, password, full_name, email, phone_number, role, active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("username", "password", "fullname", "email");
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomerSearchIndex searchIndex;
+
+    @Autowired
+    private CustomerChangeService changeService;
+
+    @Autowired
+    private UniquenessFilter uniquenessFilter;
+
+    @Value("${app.customer.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.customer.import.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${app.customer.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private ThreadPoolExecutor hashExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        hashExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        hashExecutor.allowCoreThreadTimeOut(true);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    public BulkImportResponse importCustomers(InputStream input, Format format) throws IOException {
+        long started = System.nanoTime();
+        ImportState state = new ImportState();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            long lineNo = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+
+                state.totalRows++;
+                try {
+                    RegisterRequest request = format == Format.CSV
+                            ? parseCsvRow(line, header)
+                            : objectMapper.readValue(line, RegisterRequest.class);
+                    chunk.add(new ImportRow(lineNo, request));
+                } catch (JsonProcessingException e) {
+                    state.reject(lineNo, null, "Malformed row: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    state.reject(lineNo, null, "Malformed row: " + e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, state);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, state);
+            }
+        }
+
+        long durationNanos = System.nanoTime() - started;
+        double seconds = durationNanos / 1_000_000_000.0;
+        meterRegistry.timer("customer.import").record(durationNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("customer.import.rows", "outcome", "imported").increment(state.imported);
+        meterRegistry.counter("customer.import.rows", "outcome", "failed").increment(state.failed());
+
+        state.errors.sort(Comparator.comparingLong(BulkImportResponse.RowError::getLine));
+        return BulkImportResponse.builder()
+                .totalRows(state.totalRows)
+                .imported(state.imported)
+                .failed(state.failed())
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .rowsPerSecond(seconds > 0 ? Math.round(state.totalRows / seconds * 10) / 10.0 : state.totalRows)
+                .errorsTruncated(state.failed() > state.errors.size())
+                .errors(state.errors)
+                .build();
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportState state) {
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            String error = validate(row.request(), state);
+            if (error != null) {
+                state.reject(row.line(), row.request().getUsername(), error);
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> possibleUsernames = candidates.stream()
+                .map(row -> row.request().getUsername())
+                .filter(uniquenessFilter::mightContainUsername)
+                .collect(Collectors.toList());
+        List<String> possibleEmails = candidates.stream()
+                .map(row -> row.request().getEmail())
+                .filter(uniquenessFilter::mightContainEmail)
+                .collect(Collectors.toList());
+        Set<String> existingUsernames = possibleUsernames.isEmpty()
+                ? Set.of()
+                : lowerCase(userRepository.findExistingUsernames(possibleUsernames));
+        Set<String> existingEmails = possibleEmails.isEmpty()
+                ? Set.of()
+                : lowerCase(userRepository.findExistingEmails(possibleEmails));
+
+        List<ImportRow> accepted = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            RegisterRequest request = row.request();
+            if (existingUsernames.contains(request.getUsername().toLowerCase(Locale.ROOT))) {
+                state.reject(row.line(), request.getUsername(), "Username already exists: " + request.getUsername());
+            } else if (existingEmails.contains(request.getEmail().toLowerCase(Locale.ROOT))) {
+                state.reject(row.line(), request.getUsername(), "Email already registered: " + request.getEmail());
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<String>> hashes = accepted.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(row.request().getPassword()), hashExecutor))
+                .collect(Collectors.toList());
+        List<Object[]> params = new ArrayList<>(accepted.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < accepted.size(); i++) {
+            params.add(toParams(accepted.get(i).request(), hashes.get(i).join(), now));
+        }
+
+        List<User> inserted = new ArrayList<>(accepted.size());
+        try {
+            inserted.addAll(transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, params);
+                return publishCreated(accepted.stream()
+                        .map(row -> row.request().getUsername())
+                        .collect(Collectors.toList()));
+            }));
+        } catch (DataAccessException batchFailure) {
+            for (int i = 0; i < accepted.size(); i++) {
+                ImportRow row = accepted.get(i);
+                Object[] rowParams = params.get(i);
+                try {
+                    inserted.addAll(transactionTemplate.execute(status -> {
+                        jdbcTemplate.update(INSERT_SQL, rowParams);
+                        return publishCreated(List.of(row.request().getUsername()));
+                    }));
+                } catch (DataAccessException e) {
+                    state.reject(row.line(), row.request().getUsername(),
+                            "Insert failed: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        state.imported += inserted.size();
+        uniquenessFilter.addAll(inserted);
+        searchIndex.indexAll(inserted);
+    }
+
+    private List<User> publishCreated(List<String> usernames) {
+        List<User> users = new ArrayList<>(userRepository.findByUsernameIn(usernames));
+        users.sort(Comparator.comparing(User::getId));
+        changeService.recordAll(users, CustomerChange.ChangeType.CREATED);
+        return users;
+    }
+
+    private String validate(RegisterRequest request, ImportState state) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!state.seenUsernames.add(request.getUsername().toLowerCase(Locale.ROOT))) {
+            return "Duplicate username in upload: " + request.getUsername();
+        }
+        if (!state.seenEmails.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+            return "Duplicate email in upload: " + request.getEmail();
+        }
+        return null;
+    }
+
+    private Object[] toParams(RegisterRequest request, String passwordHash, Timestamp now) {
+        User.Role role = request.getRole() != null ? request.getRole() : User.Role.CUSTOMER;
+        return new Object[] {
+                request.getUsername(),
+                passwordHash,
+                request.getFullName(),
+                request.getEmail(),
+                request.getPhoneNumber(),
+                role.name(),
+                true,
+                now,
+                now
+        };
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!header.containsKey(required)) {
+                throw new InvalidImportException("CSV header is missing required column: " + required);
+            }
+        }
+        return header;
+    }
+
+    private RegisterRequest parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> values = splitCsv(line);
+        if (values.size() < header.size()) {
+            throw new IllegalArgumentException("expected " + header.size() + " columns but found " + values.size());
+        }
+        String role = column(values, header, "role");
+        return RegisterRequest.builder()
+                .username(column(values, header, "username"))
+                .password(column(values, header, "password"))
+                .fullName(column(values, header, "fullname"))
+                .email(column(values, header, "email"))
+                .phoneNumber(column(values, header, "phonenumber"))
+                .role(role == null ? null : User.Role.valueOf(role.toUpperCase(Locale.ROOT)))
+                .build();
+    }
+
+    private String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private Set<String> lowerCase(List<String> values) {
+        return values.stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    private record ImportRow(long line, RegisterRequest request) {
+    }
+
+    private class ImportState {
+
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<BulkImportResponse.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long rejected;
+
+        private void reject(long line, String username, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(BulkImportResponse.RowError.builder()
+                        .line(line)
+                        .username(username)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private long failed() {
+            return rejected;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bt.customer.service;
+
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.UserRepository;
+import com.bt.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class CustomerSearchIndex {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.customer.search.max-prefix-expansion:5000}")
+    private int maxPrefixExpansion = 5000;
+
+    private final SearchIndex index = new SearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            try (Stream<User> users = userRepository.streamAllOrderById()) {
+                users.forEach(this::put);
+            }
+        });
+    }
+
+    public void index(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(user);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(user);
+            }
+        });
+    }
+
+    public void indexAll(Collection<User> users) {
+        users.forEach(this::put);
+    }
+
+    public void put(User user) {
+        SearchIndex.Document document = new SearchIndex.Document();
+        addWords(user.getUsername(), document);
+        addWords(user.getFullName(), document);
+        addEmail(user.getEmail(), document);
+        addPhone(user.getPhoneNumber(), document);
+        index.put(user.getId(), document);
+    }
+
+    public void remove(Long id) {
+        index.remove(id);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public List<Long> search(String query, int limit) {
+        return index.search(splitWords(SearchIndex.normalize(query)), limit, maxPrefixExpansion);
+    }
+
+    private void addWords(String value, SearchIndex.Document document) {
+        String normalized = SearchIndex.normalize(value);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        document.token(normalized.replace(" ", ""), 1);
+        for (String word : splitWords(normalized)) {
+            document.word(word, 1);
+        }
+    }
+
+    private void addEmail(String email, SearchIndex.Document document) {
+        String normalized = SearchIndex.normalize(email);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        document.token(normalized, 1);
+        int at = normalized.indexOf('@');
+        String local = at >= 0 ? normalized.substring(0, at) : normalized;
+        document.token(local, 1);
+        if (at >= 0) {
+            document.token(normalized.substring(at + 1), 1);
+        }
+        for (String part : local.split("[._+\\-]+")) {
+            document.token(part, 1);
+        }
+        document.trigrams(local, 1);
+    }
+
+    private void addPhone(String phone, SearchIndex.Document document) {
+        if (phone == null) {
+            return;
+        }
+        String digits = phone.replaceAll("\\D", "");
+        if (digits.isEmpty()) {
+            return;
+        }
+        document.word(digits, 1);
+    }
+
+    private static List<String> splitWords(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(normalized.split("[\\s,]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+}
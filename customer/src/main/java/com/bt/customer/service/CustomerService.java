@@ -1,19 +1,46 @@
 package com.bt.customer.service;
 
+import com.bt.customer.dto.CustomerBatchResponse;
+import com.bt.customer.dto.CustomerPageResponse;
 import com.bt.customer.dto.UpdateProfileRequest;
 import com.bt.customer.dto.UserProfileResponse;
+import com.bt.customer.entity.CustomerChange;
 import com.bt.customer.entity.User;
 import com.bt.customer.exception.UserNotFoundException;
 import com.bt.customer.repository.UserRepository;
+import com.bt.customer.security.CurrentUserHolder;
 import com.bt.customer.security.UserPrincipal;
+import com.bt.customer.security.UserPrincipalCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CustomerService {
@@ -21,15 +48,83 @@ public class CustomerService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private CurrentUserHolder currentUserHolder;
+
+    @Autowired
+    private CustomerSearchIndex searchIndex;
+
+    @Autowired
+    private CustomerChangeService changeService;
+
+    @Autowired
+    private UniquenessFilter uniquenessFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.customer.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${app.customer.page.max-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${app.customer.export.flush-every:500}")
+    private int exportFlushEvery = 500;
+
+    @Value("${app.customer.search.max-results:50}")
+    private int maxSearchResults = 50;
+
     public UserProfileResponse getCurrentUserProfile() {
         User user = getCurrentUser();
         return UserProfileResponse.fromUser(user);
     }
 
-    public List<UserProfileResponse> getAllCustomers() {
-        return userRepository.findAll().stream()
+    public CustomerPageResponse getCustomers(Long after, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        Slice<User> slice = userRepository.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, PageRequest.of(0, pageSize));
+
+        List<UserProfileResponse> content = slice.getContent().stream()
                 .map(UserProfileResponse::fromUser)
                 .collect(Collectors.toList());
+
+        return CustomerPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasMore(slice.hasNext())
+                .nextCursor(slice.hasNext() ? content.get(content.size() - 1).getId() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public long exportCustomers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserProfileResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+
+        try (Stream<User> users = userRepository.streamAllOrderById();
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.writeValue(generator, UserProfileResponse.fromUser(user));
+                generator.writeRaw('\n');
+                entityManager.detach(user);
+
+                if (++count % exportFlushEvery == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
     }
 
     @Transactional
@@ -42,10 +137,12 @@ public class CustomerService {
 
         if (request.getEmail() != null && !request.getEmail().isBlank()) {
             if (!user.getEmail().equals(request.getEmail()) &&
+                    uniquenessFilter.mightContainEmail(request.getEmail()) &&
                     userRepository.existsByEmail(request.getEmail())) {
                 throw new IllegalArgumentException("Email already in use");
             }
             user.setEmail(request.getEmail());
+            uniquenessFilter.add(user.getUsername(), request.getEmail());
         }
 
         if (request.getPhoneNumber() != null) {
@@ -53,29 +150,91 @@ public class CustomerService {
         }
 
         User updatedUser = userRepository.save(user);
+        currentUserHolder.setUser(updatedUser);
+        changeService.record(updatedUser, CustomerChange.ChangeType.UPDATED);
+        searchIndex.index(updatedUser);
+        principalCache.evict(updatedUser.getUsername());
         return UserProfileResponse.fromUser(updatedUser);
     }
 
-    public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+    @Transactional
+    public UserProfileResponse updateCustomerStatus(Long id, boolean active) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("Customer with ID " + id + " not found"));
+        if (Boolean.valueOf(active).equals(user.getActive())) {
+            return UserProfileResponse.fromUser(user);
+        }
+
+        user.setActive(active);
+        User updatedUser = userRepository.save(user);
+        changeService.record(updatedUser, CustomerChange.ChangeType.STATUS_CHANGED);
+        searchIndex.index(updatedUser);
+        principalCache.evict(updatedUser.getUsername());
+        return UserProfileResponse.fromUser(updatedUser);
+    }
 
-        return userRepository.findByUsername(username)
+    public User getCurrentUser() {
+        return findCurrentUser()
                 .orElseThrow(() -> new UserNotFoundException("Current user not found"));
     }
 
     public String getCurrentUserRole() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-
-        return userRepository.findByUsername(userPrincipal.getUsername())
+        return findCurrentUser()
                 .map(user -> user.getRole().name())
                 .orElse("UNKNOWN");
     }
 
+    private Optional<User> findCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getPrincipal() instanceof UserPrincipal userPrincipal
+                ? userPrincipal.getUsername()
+                : authentication.getName();
+
+        return currentUserHolder.getUser(username, userRepository::findByUsername);
+    }
+
     public UserProfileResponse getCustomerById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("Customer with ID " + id + " not found"));
         return UserProfileResponse.fromUser(user);
     }
+
+    public List<UserProfileResponse> searchCustomers(String query, Integer limit) {
+        int size = limit == null ? 10 : Math.max(1, Math.min(limit, maxSearchResults));
+        List<Long> rankedIds = searchIndex.search(query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> users = userRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(UserProfileResponse::fromUser)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerBatchResponse getCustomersByIds(Collection<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        Map<Long, User> found = userRepository.findAllById(requested).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<Long, UserProfileResponse> customers = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            User user = found.get(id);
+            if (user != null) {
+                customers.put(id, UserProfileResponse.fromUser(user));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return CustomerBatchResponse.builder()
+                .customers(customers)
+                .missingIds(missingIds)
+                .build();
+    }
 }
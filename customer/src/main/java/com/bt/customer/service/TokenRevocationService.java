@@ -0,0 +1,138 @@
+package com.bt.customer.service;
+
+import com.bt.customer.entity.RevokedToken;
+import com.bt.customer.exception.InvalidCredentialsException;
+import com.bt.customer.exception.UserNotFoundException;
+import com.bt.customer.repository.RevokedTokenRepository;
+import com.bt.customer.repository.UserRepository;
+import com.bt.customer.security.UserPrincipalCache;
+import com.bt.security.JwtTokenProvider;
+import com.bt.security.VerifiedToken;
+import com.bt.security.revocation.RevocationList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class TokenRevocationService {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private UserPrincipalCache principalCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.security.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private Set<String> compiledTokenIds = Set.of();
+    private Map<String, Instant> compiledSubjects = Map.of();
+
+    @Transactional
+    public void revokeToken(String token, String reason) {
+        VerifiedToken verified = tokenProvider.resolve(token)
+                .orElseThrow(() -> new InvalidCredentialsException("Token is invalid, expired or already revoked"));
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .scope(RevokedToken.Scope.TOKEN)
+                .tokenId(verified.getTokenId())
+                .username(verified.getUsername())
+                .reason(reason)
+                .expiresAt(toLocalDateTime(verified.getExpiresAt() != null
+                        ? verified.getExpiresAt()
+                        : Instant.now().plusMillis(tokenProvider.getJwtExpiration())))
+                .build());
+        rebuildAfterCommit();
+    }
+
+    @Transactional
+    public void revokeAllForUser(String username, String reason) {
+        if (!userRepository.existsByUsername(username)) {
+            throw new UserNotFoundException("User not found with username: " + username);
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .scope(RevokedToken.Scope.USER)
+                .username(username)
+                .reason(reason)
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusNanos(tokenProvider.getJwtExpiration() * 1_000_000))
+                .build());
+        principalCache.evict(username);
+        rebuildAfterCommit();
+    }
+
+    public RevocationList getRevocationList() {
+        return tokenProvider.getRevocationList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> tokenIds = new HashSet<>();
+        Map<String, Instant> subjects = new HashMap<>();
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> {
+            revokedTokenRepository.deleteByExpiresAtBefore(now);
+            for (RevokedToken revoked : revokedTokenRepository.findByExpiresAtAfter(now)) {
+                if (revoked.getScope() == RevokedToken.Scope.TOKEN && revoked.getTokenId() != null) {
+                    tokenIds.add(revoked.getTokenId());
+                } else if (revoked.getScope() == RevokedToken.Scope.USER) {
+                    subjects.merge(revoked.getUsername(), toInstant(revoked.getRevokedAt()),
+                            (a, b) -> a.isAfter(b) ? a : b);
+                }
+            }
+        });
+
+        if (tokenIds.equals(compiledTokenIds) && subjects.equals(compiledSubjects)) {
+            return;
+        }
+        long version = Math.max(tokenProvider.getRevocationList().getVersion() + 1, System.currentTimeMillis());
+        tokenProvider.setRevocationList(RevocationList.build(version, tokenIds, subjects, falsePositiveRate));
+        compiledTokenIds = tokenIds;
+        compiledSubjects = subjects;
+    }
+
+    private void rebuildAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
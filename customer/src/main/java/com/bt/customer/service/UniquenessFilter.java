@@ -0,0 +1,181 @@
+package com.bt.customer.service;
+
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.UserRepository;
+import com.bt.security.revocation.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class UniquenessFilter {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.customer.uniqueness.expected-insertions:1000000}")
+    private long expectedInsertions = 1_000_000;
+
+    @Value("${app.customer.uniqueness.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private volatile Filters current;
+    private volatile Filters building;
+    private volatile long capacity;
+
+    private Counter usernameSkipped;
+    private Counter usernameQueried;
+    private Counter emailSkipped;
+    private Counter emailQueried;
+
+    @PostConstruct
+    void registerMetrics() {
+        for (String field : new String[] { "username", "email" }) {
+            Gauge.builder("customer.uniqueness.filter.bits", this, filter -> filter.bitSize(field))
+                    .tag("field", field)
+                    .description("Size of the uniqueness Bloom filter in bits")
+                    .register(meterRegistry);
+            Gauge.builder("customer.uniqueness.filter.fpp", this, filter -> filter.falsePositiveRate(field))
+                    .tag("field", field)
+                    .description("Estimated false-positive rate of the uniqueness Bloom filter")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("customer.uniqueness.filter.insertions", insertions, AtomicLong::get)
+                .register(meterRegistry);
+        usernameSkipped = meterRegistry.counter("customer.uniqueness.checks", "field", "username", "result", "skipped");
+        usernameQueried = meterRegistry.counter("customer.uniqueness.checks", "field", "username", "result", "queried");
+        emailSkipped = meterRegistry.counter("customer.uniqueness.checks", "field", "email", "result", "skipped");
+        emailQueried = meterRegistry.counter("customer.uniqueness.checks", "field", "email", "result", "queried");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.customer.uniqueness.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long size = Math.max(expectedInsertions, userRepository.count() * 2);
+        Filters next = new Filters(BloomFilter.create(size, falsePositiveRate),
+                BloomFilter.create(size, falsePositiveRate));
+        building = next;
+        try {
+            // Read from the primary: a lagging replica would leave taken names out of the filter.
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            long loaded = template.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> rows = userRepository.streamUsernamesAndEmails()) {
+                    for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                        next.put((String) row[0], (String) row[1]);
+                        count++;
+                    }
+                }
+                return count;
+            });
+            current = next;
+            capacity = size;
+            insertions.set(loaded);
+            log.info("Uniqueness filter rebuilt with {} customers ({} bits per field)", loaded,
+                    next.usernames.getBitSize());
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        boolean mightContain = filters == null || filters.usernames.mightContain(normalize(username));
+        (mightContain ? usernameQueried : usernameSkipped).increment();
+        return mightContain;
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        boolean mightContain = filters == null || filters.emails.mightContain(normalize(email));
+        (mightContain ? emailQueried : emailSkipped).increment();
+        return mightContain;
+    }
+
+    public void add(User user) {
+        add(user.getUsername(), user.getEmail());
+    }
+
+    public void addAll(Collection<User> users) {
+        users.forEach(this::add);
+    }
+
+    public void add(String username, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(username, email);
+        }
+        Filters pending = building;
+        if (pending != null) {
+            pending.put(username, email);
+        }
+        if (insertions.incrementAndGet() == capacity) {
+            log.warn("Uniqueness filter reached its capacity of {} entries; false-positive rate will rise until "
+                    + "the next rebuild", capacity);
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    private long bitSize(String field) {
+        Filters filters = current;
+        if (filters == null) {
+            return 0;
+        }
+        return ("email".equals(field) ? filters.emails : filters.usernames).getBitSize();
+    }
+
+    private double falsePositiveRate(String field) {
+        Filters filters = current;
+        if (filters == null) {
+            return 1.0;
+        }
+        return ("email".equals(field) ? filters.emails : filters.usernames).expectedFalsePositiveRate();
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(value.strip(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        void put(String username, String email) {
+            if (username != null) {
+                usernames.put(normalize(username));
+            }
+            if (email != null) {
+                emails.put(normalize(email));
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bt.customer.config;
+
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "app.datasource.replicas[0].url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.read-your-writes-millis=60000"
+})
+@DisplayName("Read replica routing Tests")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        replicate(primaryDataSource);
+        readYourWritesTracker.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only queries from the replica and writes from the primary")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        userRepository.save(user("alice"));
+        replicate(primaryDataSource);
+        userRepository.save(user("bob"));
+        readYourWritesTracker.clear();
+
+        assertEquals(1, replicaDataSource.getReplicaCount());
+        assertTrue(userRepository.findByUsername("alice").isPresent());
+        assertTrue(userRepository.findByUsername("bob").isEmpty());
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        assertTrue(readWrite.execute(status -> userRepository.findByUsername("bob")).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should read own writes from the primary until the replica catches up")
+    void shouldReadOwnWritesFromPrimary() {
+        userRepository.save(user("carol"));
+
+        assertTrue(readYourWritesTracker.hasRecentWrite());
+        assertTrue(userRepository.findByUsername("carol").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary when a shared entity manager already read from the replica")
+    void shouldRouteEachTransactionWithinSharedEntityManager() {
+        userRepository.save(user("alice"));
+        replicate(primaryDataSource);
+        readYourWritesTracker.clear();
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            assertTrue(userRepository.findByUsername("alice").isPresent());
+
+            TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+            readWrite.executeWithoutResult(status -> {
+                User alice = userRepository.findByUsername("alice").orElseThrow();
+                alice.setFullName("Alice Updated");
+                userRepository.save(user("dave"));
+            });
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        assertEquals(1, primary.queryForObject("select count(*) from users where username = 'dave'", Integer.class));
+        assertEquals("Alice Updated",
+                primary.queryForObject("select full_name from users where username = 'alice'", String.class));
+    }
+
+    private static void replicate(DataSource primaryDataSource) {
+        List<String> script = new JdbcTemplate(primaryDataSource)
+                .queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Bean
+        SmartInitializingSingleton replicaSchemaInitializer(HikariDataSource primaryDataSource) {
+            return () -> replicate(primaryDataSource);
+        }
+    }
+
+    private User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("encoded-password")
+                .fullName(username)
+                .email(username + "@example.com")
+                .role(User.Role.CUSTOMER)
+                .build();
+    }
+}
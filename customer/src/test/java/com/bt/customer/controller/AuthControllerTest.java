@@ -5,8 +5,11 @@ import com.bt.customer.dto.LoginRequest;
 import com.bt.customer.dto.RegisterRequest;
 import com.bt.customer.entity.User;
 import com.bt.customer.exception.InvalidCredentialsException;
+import com.bt.customer.exception.ServiceBusyException;
 import com.bt.customer.exception.UserAlreadyExistsException;
+import com.bt.customer.security.UserPrincipalCache;
 import com.bt.customer.service.AuthService;
+import com.bt.customer.service.TokenRevocationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +40,12 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private UserPrincipalCache principalCache;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     private RegisterRequest registerRequest;
     private LoginRequest loginRequest;
     private AuthResponse authResponse;
@@ -135,6 +144,20 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.message").value("Invalid username or password"));
     }
 
+    @Test
+    @DisplayName("Should return service unavailable when password verification is saturated")
+    void shouldReturnServiceUnavailableWhenLoginIsSaturated() throws Exception {
+        when(authService.login(any(LoginRequest.class)))
+                .thenThrow(new ServiceBusyException("Login is temporarily unavailable, please retry shortly"));
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Login is temporarily unavailable, please retry shortly"));
+    }
+
     @Test
     @DisplayName("Should return bad request when login fields are blank")
     void shouldReturnBadRequestWhenLoginFieldsAreBlank() throws Exception {
@@ -146,4 +169,23 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Should revoke the presented token on logout")
+    void shouldRevokeTokenOnLogout() throws Exception {
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer some.jwt.token"))
+                .andExpect(status().isNoContent());
+
+        verify(tokenRevocationService, times(1)).revokeToken("some.jwt.token", "logout");
+    }
+
+    @Test
+    @DisplayName("Should return unauthorized on logout without bearer token")
+    void shouldReturnUnauthorizedOnLogoutWithoutToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(tokenRevocationService);
+    }
 }
@@ -1,9 +1,11 @@
 package com.bt.customer.controller;
 
+import com.bt.customer.dto.CustomerPageResponse;
 import com.bt.customer.dto.StatusResponse;
 import com.bt.customer.dto.UpdateProfileRequest;
 import com.bt.customer.dto.UserProfileResponse;
 import com.bt.customer.entity.User;
+import com.bt.customer.security.UserPrincipalCache;
 import com.bt.customer.service.CustomerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +42,9 @@ class CustomerControllerTest {
     @MockBean
     private CustomerService customerService;
 
+    @MockBean
+    private UserPrincipalCache principalCache;
+
     private UserProfileResponse profileResponse;
     private UpdateProfileRequest updateRequest;
     private User mockUser;
@@ -103,16 +108,23 @@ class CustomerControllerTest {
                         .role("CUSTOMER")
                         .build());
 
-        when(customerService.getAllCustomers()).thenReturn(customers);
+        when(customerService.getCustomers(null, null)).thenReturn(CustomerPageResponse.builder()
+                .content(customers)
+                .size(2)
+                .hasMore(true)
+                .nextCursor(2L)
+                .build());
 
         mockMvc.perform(get("/api/customer/all")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].username").value("testuser"))
-                .andExpect(jsonPath("$[1].username").value("customer2"));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content[0].username").value("testuser"))
+                .andExpect(jsonPath("$.content[1].username").value("customer2"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(2));
 
-        verify(customerService, times(1)).getAllCustomers();
+        verify(customerService, times(1)).getCustomers(null, null);
     }
 
     @Test
@@ -120,14 +132,21 @@ class CustomerControllerTest {
     @DisplayName("Should get all customers when user is BANKOFFICER")
     void shouldGetAllCustomersForBankOfficer() throws Exception {
         List<UserProfileResponse> customers = Arrays.asList(profileResponse);
-        when(customerService.getAllCustomers()).thenReturn(customers);
+        when(customerService.getCustomers(1L, 10)).thenReturn(CustomerPageResponse.builder()
+                .content(customers)
+                .size(1)
+                .hasMore(false)
+                .build());
 
         mockMvc.perform(get("/api/customer/all")
+                .param("after", "1")
+                .param("size", "10")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.hasMore").value(false));
 
-        verify(customerService, times(1)).getAllCustomers();
+        verify(customerService, times(1)).getCustomers(1L, 10);
     }
 
     @Test
@@ -0,0 +1,104 @@
+package com.bt.customer.security;
+
+import com.bt.customer.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordVerifier Tests")
+class PasswordVerifierTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should verify passwords against their hash")
+    void shouldVerifyPasswords() {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        verifier = create(encoder, 2, 4);
+        String hash = encoder.encode("password123");
+
+        assertTrue(verifier.matches("password123", hash));
+        assertFalse(verifier.matches("wrong-password", hash));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown users after hashing a dummy password")
+    void shouldRejectUnknownUsers() {
+        verifier = create(new BCryptPasswordEncoder(4), 1, 4);
+
+        assertFalse(verifier.matches("dummy-password-for-unknown-users", null));
+    }
+
+    @Test
+    @DisplayName("Should fail fast with ServiceBusyException when the queue is full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+        verifier = create(blocking, 1, 1);
+        String hash = blocking.encode("password123");
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> verifier.matches("password123", hash));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> verifier.matches("password123", hash));
+            waitForQueuedTask();
+
+            assertThrows(ServiceBusyException.class, () -> verifier.matches("password123", hash));
+            assertEquals(1.0, meterRegistry.counter("customer.login.verify.rejected").count());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("customer.login.verify.queue").gauge().value() < 1) {
+            assertTrue(System.nanoTime() < deadline, "verification was never queued");
+            Thread.sleep(10);
+        }
+    }
+
+    private PasswordVerifier create(PasswordEncoder encoder, int threads, int queueCapacity) {
+        PasswordVerifier passwordVerifier = new PasswordVerifier();
+        ReflectionTestUtils.setField(passwordVerifier, "passwordEncoder", encoder);
+        ReflectionTestUtils.setField(passwordVerifier, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(passwordVerifier, "hashThreads", threads);
+        ReflectionTestUtils.setField(passwordVerifier, "queueCapacity", queueCapacity);
+        passwordVerifier.init();
+        return passwordVerifier;
+    }
+}
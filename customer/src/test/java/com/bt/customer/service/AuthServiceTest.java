@@ -3,11 +3,14 @@ package com.bt.customer.service;
 import com.bt.customer.dto.AuthResponse;
 import com.bt.customer.dto.LoginRequest;
 import com.bt.customer.dto.RegisterRequest;
+import com.bt.customer.entity.CustomerChange;
 import com.bt.customer.entity.User;
 import com.bt.customer.exception.InvalidCredentialsException;
+import com.bt.customer.exception.ServiceBusyException;
 import com.bt.customer.exception.UserAlreadyExistsException;
 import com.bt.customer.repository.UserRepository;
-import com.bt.customer.security.JwtTokenProvider;
+import com.bt.customer.security.PasswordVerifier;
+import com.bt.security.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,10 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -41,7 +41,16 @@ class AuthServiceTest {
     private JwtTokenProvider tokenProvider;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private CustomerSearchIndex searchIndex;
+
+    @Mock
+    private CustomerChangeService changeService;
+
+    @Mock
+    private UniquenessFilter uniquenessFilter;
 
     @InjectMocks
     private AuthService authService;
@@ -52,6 +61,9 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(uniquenessFilter.mightContainUsername(anyString())).thenReturn(true);
+        lenient().when(uniquenessFilter.mightContainEmail(anyString())).thenReturn(true);
+
         registerRequest = RegisterRequest.builder()
                 .username("testuser")
                 .password("password123")
@@ -99,6 +111,35 @@ class AuthServiceTest {
         verify(userRepository, times(1)).existsByEmail("test@example.com");
         verify(userRepository, times(1)).save(any(User.class));
         verify(tokenProvider, times(1)).generateTokenForUser("testuser", "CUSTOMER");
+        verify(searchIndex, times(1)).index(any(User.class));
+        verify(changeService, times(1)).record(any(User.class), eq(CustomerChange.ChangeType.CREATED));
+    }
+
+    @Test
+    @DisplayName("Should skip uniqueness queries when the filter has never seen the username or email")
+    void shouldSkipUniquenessQueriesForUnseenValues() {
+        when(uniquenessFilter.mightContainUsername("testuser")).thenReturn(false);
+        when(uniquenessFilter.mightContainEmail("test@example.com")).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
+        when(tokenProvider.generateTokenForUser(anyString(), anyString())).thenReturn("jwt-token");
+
+        authService.register(registerRequest);
+
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(uniquenessFilter, times(1)).add(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should report a unique constraint violation as an existing user")
+    void shouldTranslateUniqueConstraintViolation() {
+        when(uniquenessFilter.mightContainUsername("testuser")).thenReturn(false);
+        when(uniquenessFilter.mightContainEmail("test@example.com")).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> authService.register(registerRequest));
+        verify(uniquenessFilter, never()).add(any(User.class));
     }
 
     @Test
@@ -149,10 +190,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("Should login user successfully with valid credentials")
     void shouldLoginUserSuccessfully() {
-        Authentication authentication = mock(Authentication.class);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordVerifier.matches("password123", "encoded-password")).thenReturn(true);
         when(tokenProvider.generateTokenForUser(anyString(), anyString())).thenReturn("jwt-token");
 
         AuthResponse response = authService.login(loginRequest);
@@ -163,37 +202,45 @@ class AuthServiceTest {
         assertEquals("CUSTOMER", response.getRole());
         assertEquals("Authentication successful", response.getMessage());
 
-        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(userRepository, times(1)).findByUsername("testuser");
+        verify(passwordVerifier, times(1)).matches("password123", "encoded-password");
         verify(tokenProvider, times(1)).generateTokenForUser("testuser", "CUSTOMER");
     }
 
     @Test
     @DisplayName("Should throw exception for invalid credentials")
     void shouldThrowExceptionForInvalidCredentials() {
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new BadCredentialsException("Invalid credentials"));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordVerifier.matches("password123", "encoded-password")).thenReturn(false);
 
         InvalidCredentialsException exception = assertThrows(
                 InvalidCredentialsException.class,
                 () -> authService.login(loginRequest));
 
         assertTrue(exception.getMessage().contains("Invalid username or password"));
-        verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
+        verify(tokenProvider, never()).generateTokenForUser(anyString(), anyString());
     }
 
     @Test
-    @DisplayName("Should throw exception when user not found after authentication")
-    void shouldThrowExceptionWhenUserNotFoundAfterAuth() {
-        Authentication authentication = mock(Authentication.class);
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+    @DisplayName("Should still verify a password when the user does not exist")
+    void shouldThrowExceptionWhenUserNotFound() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.empty());
+        when(passwordVerifier.matches("password123", null)).thenReturn(false);
 
         InvalidCredentialsException exception = assertThrows(
                 InvalidCredentialsException.class,
                 () -> authService.login(loginRequest));
 
         assertTrue(exception.getMessage().contains("Invalid username or password"));
+        verify(passwordVerifier, times(1)).matches("password123", null);
+    }
+
+    @Test
+    @DisplayName("Should surface back-pressure when password hashing is saturated")
+    void shouldPropagateServiceBusy() {
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(passwordVerifier.matches(anyString(), anyString())).thenThrow(new ServiceBusyException("busy"));
+
+        assertThrows(ServiceBusyException.class, () -> authService.login(loginRequest));
     }
 }
@@ -0,0 +1,160 @@
+package com.bt.customer.service;
+
+import com.bt.customer.dto.CustomerChangeFeedResponse;
+import com.bt.customer.entity.CustomerChange;
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.CustomerChangeRepository;
+import com.bt.customer.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("CustomerChangeService Tests")
+class CustomerChangeServiceTest {
+
+    @Autowired
+    private CustomerChangeService changeService;
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerChangeRepository changeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        changeRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should publish imported and status changes in offset order")
+    void shouldPublishChangesInOffsetOrder() throws Exception {
+        String csv = String.join("\n",
+                "username,password,fullName,email",
+                "alice,password123,Alice Smith,alice@example.com",
+                "bob,password123,Bob Jones,bob@example.com");
+        customerImportService.importCustomers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CustomerImportService.Format.CSV);
+        User bob = userRepository.findByUsername("bob").orElseThrow();
+        customerService.updateCustomerStatus(bob.getId(), false);
+
+        CustomerChangeFeedResponse first = changeService.getChanges(null, 2);
+
+        assertEquals(2, first.getChanges().size());
+        assertTrue(first.isHasMore());
+        assertEquals("CREATED", first.getChanges().get(0).getChangeType());
+        assertEquals("alice", first.getChanges().get(0).getUsername());
+        assertEquals(first.getChanges().get(0).getOffset(), first.getOldestOffset());
+
+        CustomerChangeFeedResponse second = changeService.getChanges(first.getNextOffset(), 2);
+
+        assertEquals(1, second.getChanges().size());
+        assertFalse(second.isHasMore());
+        CustomerChangeFeedResponse.Change statusChange = second.getChanges().get(0);
+        assertEquals("STATUS_CHANGED", statusChange.getChangeType());
+        assertEquals(bob.getId(), statusChange.getCustomerId());
+        assertFalse(statusChange.getActive());
+
+        CustomerChangeFeedResponse caughtUp = changeService.getChanges(second.getNextOffset(), 2);
+
+        assertTrue(caughtUp.getChanges().isEmpty());
+        assertEquals(second.getNextOffset(), caughtUp.getNextOffset());
+    }
+
+    @Test
+    @DisplayName("Should not let a slow commit slip in behind an offset a consumer has passed")
+    void shouldPublishSlowCommitAfterFasterOne() throws Exception {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = executor.submit(() -> template.executeWithoutResult(status -> {
+                changeService.record(customer(1L, "slow"), CustomerChange.ChangeType.UPDATED);
+                recorded.countDown();
+                await(release);
+            }));
+            assertTrue(recorded.await(5, TimeUnit.SECONDS));
+
+            template.executeWithoutResult(status ->
+                    changeService.record(customer(2L, "fast"), CustomerChange.ChangeType.UPDATED));
+            CustomerChangeFeedResponse first = changeService.getChanges(null, 10);
+
+            assertEquals(1, first.getChanges().size());
+            assertEquals("fast", first.getChanges().get(0).getUsername());
+
+            release.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+            CustomerChangeFeedResponse second = changeService.getChanges(first.getNextOffset(), 10);
+
+            assertEquals(1, second.getChanges().size());
+            assertEquals("slow", second.getChanges().get(0).getUsername());
+            assertTrue(second.getNextOffset() > first.getNextOffset());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to record a change outside a transaction")
+    void shouldRequireSurroundingTransaction() {
+        User user = User.builder()
+                .id(1L)
+                .username("alice")
+                .fullName("Alice")
+                .email("alice@example.com")
+                .role(User.Role.CUSTOMER)
+                .active(true)
+                .build();
+
+        assertThrows(IllegalTransactionStateException.class,
+                () -> changeService.record(user, CustomerChange.ChangeType.CREATED));
+        assertEquals(0, changeRepository.count());
+    }
+
+    private static User customer(Long id, String username) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .fullName(username)
+                .email(username + "@example.com")
+                .role(User.Role.CUSTOMER)
+                .active(true)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bt.customer.service;
+
+import com.bt.customer.dto.BulkImportResponse;
+import com.bt.customer.entity.User;
+import com.bt.customer.exception.InvalidImportException;
+import com.bt.customer.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("CustomerImportService Tests")
+class CustomerImportServiceTest {
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UniquenessFilter uniquenessFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .username("existing")
+                .password(passwordEncoder.encode("password123"))
+                .fullName("Existing User")
+                .email("existing@example.com")
+                .role(User.Role.CUSTOMER)
+                .build());
+        uniquenessFilter.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows and report rejected ones")
+    void shouldImportCsvAndReportRowErrors() throws Exception {
+        String csv = String.join("\n",
+                "username,password,fullName,email,phoneNumber,role",
+                "alice,password123,Alice Smith,alice@example.com,+1234567890,CUSTOMER",
+                "bob,password123,\"Bob, Jr.\",bob@example.com,,BANKOFFICER",
+                "existing,password123,Clash User,new@example.com,,",
+                "carol,password123,Carol,alice@example.com,,",
+                "dave,pw,Dave,dave@example.com,,",
+                "erin,password123,Erin,erin@example.com,,SUPERUSER");
+
+        BulkImportResponse response = customerImportService.importCustomers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CustomerImportService.Format.CSV);
+
+        assertEquals(6, response.getTotalRows());
+        assertEquals(2, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertFalse(response.isErrorsTruncated());
+        assertEquals(4, response.getErrors().get(0).getLine());
+        assertTrue(response.getErrors().get(0).getMessage().startsWith("Username already exists"));
+        assertTrue(response.getErrors().get(1).getMessage().startsWith("Duplicate email in upload"));
+        assertEquals("Password must be at least 6 characters", response.getErrors().get(2).getMessage());
+        assertTrue(response.getErrors().get(3).getMessage().startsWith("Malformed row"));
+        assertTrue(response.getRowsPerSecond() > 0);
+
+        User bob = userRepository.findByUsername("bob").orElseThrow();
+        assertEquals("Bob, Jr.", bob.getFullName());
+        assertEquals(User.Role.BANKOFFICER, bob.getRole());
+        assertTrue(passwordEncoder.matches("password123", bob.getPassword()));
+        assertTrue(userRepository.findByUsername("alice").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON rows")
+    void shouldImportNdjson() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"username\":\"frank\",\"password\":\"password123\",\"fullName\":\"Frank\",\"email\":\"frank@example.com\"}",
+                "{\"username\":\"grace\",\"password\":\"password123\",\"fullName\":\"Grace\",\"email\":\"grace@example.com\",\"role\":\"ADMIN\"}",
+                "{not json}");
+
+        BulkImportResponse response = customerImportService.importCustomers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), CustomerImportService.Format.NDJSON);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(User.Role.ADMIN, userRepository.findByUsername("grace").orElseThrow().getRole());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        String csv = "username,fullName\nalice,Alice";
+
+        assertThrows(InvalidImportException.class, () -> customerImportService.importCustomers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), CustomerImportService.Format.CSV));
+    }
+}
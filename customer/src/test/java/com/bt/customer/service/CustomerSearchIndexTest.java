@@ -0,0 +1,82 @@
+package com.bt.customer.service;
+
+import com.bt.customer.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CustomerSearchIndex Tests")
+class CustomerSearchIndexTest {
+
+    private CustomerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CustomerSearchIndex();
+        index.put(user(1L, "john_doe", "John Doe", "john.doe@example.com", "+1 555 0100"));
+        index.put(user(2L, "jane_smith", "Jane Smith", "jane.smith@example.com", "+1 555 0199"));
+        index.put(user(3L, "johnny", "Johnny Appleseed", "apples@orchard.org", "+44 20 7946 0958"));
+        index.put(user(4L, "mary_j", "Mary Johnson", "mary@example.com", null));
+    }
+
+    @Test
+    @DisplayName("Should rank exact token matches above prefix matches")
+    void shouldRankExactAbovePrefix() {
+        List<Long> results = index.search("john", 10);
+
+        assertEquals(1L, results.get(0));
+        assertTrue(results.containsAll(List.of(1L, 3L, 4L)));
+        assertFalse(results.contains(2L));
+    }
+
+    @Test
+    @DisplayName("Should require every query term to match")
+    void shouldMatchAllTerms() {
+        assertEquals(List.of(4L), index.search("mary john", 10));
+        assertEquals(List.of(2L), index.search("Jane Sm", 10));
+    }
+
+    @Test
+    @DisplayName("Should match infixes via trigrams")
+    void shouldMatchInfixes() {
+        assertEquals(List.of(3L), index.search("pleseed", 10));
+        assertEquals(List.of(3L), index.search("7946", 10));
+        assertEquals(List.of(2L), index.search("0199", 10));
+    }
+
+    @Test
+    @DisplayName("Should search by email and limit results")
+    void shouldSearchByEmailAndLimit() {
+        assertEquals(List.of(2L), index.search("jane.smith@example.com", 10));
+        assertEquals(1, index.search("example.com", 1).size());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void shouldReflectUpdates() {
+        index.put(user(2L, "jane_smith", "Jane Brown", "jane.brown@example.com", null));
+
+        assertTrue(index.search("smith", 10).contains(2L));
+        assertEquals(List.of(2L), index.search("brown", 10));
+        assertTrue(index.search("0199", 10).isEmpty());
+
+        index.remove(2L);
+        assertTrue(index.search("jane", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    private User user(Long id, String username, String fullName, String email, String phone) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .fullName(fullName)
+                .email(email)
+                .phoneNumber(phone)
+                .role(User.Role.CUSTOMER)
+                .build();
+    }
+}
@@ -2,25 +2,40 @@ package com.bt.customer.service;
 
 import com.bt.customer.dto.UpdateProfileRequest;
 import com.bt.customer.dto.UserProfileResponse;
+import com.bt.customer.entity.CustomerChange;
 import com.bt.customer.entity.User;
 import com.bt.customer.exception.UserNotFoundException;
 import com.bt.customer.repository.UserRepository;
+import com.bt.customer.security.CurrentUserHolder;
 import com.bt.customer.security.UserPrincipal;
+import com.bt.customer.security.UserPrincipalCache;
+import com.bt.customer.dto.CustomerBatchResponse;
+import com.bt.customer.dto.CustomerPageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +48,29 @@ class CustomerServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private CurrentUserHolder currentUserHolder = new CurrentUserHolder();
+
+    @Mock
+    private CustomerSearchIndex searchIndex;
+
+    @Mock
+    private CustomerChangeService changeService;
+
+    @Mock
+    private UniquenessFilter uniquenessFilter;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setFilterProvider(com.bt.web.SparseFieldsetAdvice.defaultFilterProvider());
+
     @Mock
     private Authentication authentication;
 
@@ -47,6 +85,8 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(uniquenessFilter.mightContainEmail(anyString())).thenReturn(true);
+
         user = User.builder()
                 .id(1L)
                 .username("testuser")
@@ -105,16 +145,86 @@ class CustomerServiceTest {
                 .role(User.Role.CUSTOMER)
                 .build();
 
-        when(userRepository.findAll()).thenReturn(Arrays.asList(user, customer2));
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(new SliceImpl<>(Arrays.asList(user, customer2), PageRequest.of(0, 50), true));
 
-        List<UserProfileResponse> customers = customerService.getAllCustomers();
+        CustomerPageResponse page = customerService.getCustomers(null, null);
 
-        assertNotNull(customers);
+        assertNotNull(page);
+        List<UserProfileResponse> customers = page.getContent();
         assertEquals(2, customers.size());
         assertEquals("testuser", customers.get(0).getUsername());
         assertEquals("customer2", customers.get(1).getUsername());
+        assertTrue(page.isHasMore());
+        assertEquals(2L, page.getNextCursor());
 
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 50));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should cap page size and omit cursor on last page")
+    void shouldCapPageSizeOnLastPage() {
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any()))
+                .thenReturn(new SliceImpl<>(List.of(user), PageRequest.of(0, 500), false));
+
+        CustomerPageResponse page = customerService.getCustomers(1L, 100000);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(userRepository).findByIdGreaterThanOrderByIdAsc(1L, PageRequest.of(0, 500));
+    }
+
+    @Test
+    @DisplayName("Should export customers as NDJSON, detach each row and batch flushes")
+    void shouldExportCustomersAsNdjson() throws Exception {
+        User customer2 = User.builder()
+                .id(2L)
+                .username("customer2")
+                .fullName("Customer Two")
+                .email("customer2@example.com")
+                .role(User.Role.CUSTOMER)
+                .build();
+        when(userRepository.streamAllOrderById()).thenReturn(Stream.of(user, customer2));
+
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        long count = customerService.exportCustomers(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals(0, flushes.get());
+        assertEquals("testuser", objectMapper.readTree(lines[0]).get("username").asText());
+        assertEquals("customer2", objectMapper.readTree(lines[1]).get("username").asText());
+        verify(entityManager, times(2)).detach(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve customers in one query and report missing IDs")
+    void shouldGetCustomersByIds() {
+        User customer2 = User.builder()
+                .id(2L)
+                .username("customer2")
+                .fullName("Customer Two")
+                .email("customer2@example.com")
+                .role(User.Role.CUSTOMER)
+                .build();
+        when(userRepository.findAllById(any())).thenReturn(Arrays.asList(customer2, user));
+
+        CustomerBatchResponse response = customerService.getCustomersByIds(Arrays.asList(1L, 42L, 2L, 1L));
+
+        assertEquals(List.of(1L, 2L), List.copyOf(response.getCustomers().keySet()));
+        assertEquals("testuser", response.getCustomers().get(1L).getUsername());
+        assertEquals("customer2", response.getCustomers().get(2L).getUsername());
+        assertEquals(List.of(42L), response.getMissingIds());
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -137,6 +247,54 @@ class CustomerServiceTest {
 
         assertNotNull(response);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(principalCache, times(1)).evict("testuser");
+        verify(searchIndex, times(1)).index(user);
+        verify(changeService, times(1)).record(user, CustomerChange.ChangeType.UPDATED);
+    }
+
+    @Test
+    @DisplayName("Should deactivate customer and publish status change")
+    void shouldDeactivateCustomerAndPublishChange() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        UserProfileResponse response = customerService.updateCustomerStatus(1L, false);
+
+        assertFalse(response.getActive());
+        verify(changeService, times(1)).record(user, CustomerChange.ChangeType.STATUS_CHANGED);
+        verify(principalCache, times(1)).evict("testuser");
+        verify(searchIndex, times(1)).index(user);
+    }
+
+    @Test
+    @DisplayName("Should not publish a change when status is unchanged")
+    void shouldNotPublishUnchangedStatus() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        customerService.updateCustomerStatus(1L, true);
+
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(changeService);
+    }
+
+    @Test
+    @DisplayName("Should return searched customers in index rank order")
+    void shouldSearchCustomersInRankOrder() {
+        User customer2 = User.builder()
+                .id(2L)
+                .username("customer2")
+                .fullName("Customer Two")
+                .email("customer2@example.com")
+                .role(User.Role.CUSTOMER)
+                .build();
+        when(searchIndex.search("cust", 10)).thenReturn(List.of(2L, 1L));
+        when(userRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(user, customer2));
+
+        List<UserProfileResponse> results = customerService.searchCustomers("cust", null);
+
+        assertEquals(2, results.size());
+        assertEquals("customer2", results.get(0).getUsername());
+        assertEquals("testuser", results.get(1).getUsername());
     }
 
     @Test
@@ -189,6 +347,21 @@ class CustomerServiceTest {
         verify(userRepository, times(1)).findByUsername("testuser");
     }
 
+    @Test
+    @DisplayName("Should load the current user once per request")
+    void shouldLoadCurrentUserOncePerRequest() {
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(userPrincipal);
+        SecurityContextHolder.setContext(securityContext);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+
+        assertEquals("CUSTOMER", customerService.getCurrentUserRole());
+        assertEquals("testuser", customerService.getCurrentUser().getUsername());
+        assertEquals("testuser", customerService.getCurrentUserProfile().getUsername());
+
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
     @Test
     @DisplayName("Should return UNKNOWN when user not found for role check")
     void shouldReturnUnknownWhenUserNotFoundForRole() {
@@ -0,0 +1,92 @@
+package com.bt.customer.service;
+
+import com.bt.customer.dto.LoginRequest;
+import com.bt.customer.entity.User;
+import com.bt.customer.exception.ServiceBusyException;
+import com.bt.customer.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Login throughput benchmark")
+class LoginThroughputBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 64);
+    private static final int LOGINS_PER_CLIENT = Integer.getInteger("benchmark.logins", 20);
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userRepository.save(User.builder()
+                .username("benchmark")
+                .password(passwordEncoder.encode("password123"))
+                .fullName("Benchmark User")
+                .email("benchmark@example.com")
+                .role(User.Role.CUSTOMER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should report login throughput and rejections under concurrent load")
+    void measureLoginThroughput() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(clients.submit(() -> {
+                start.await();
+                for (int j = 0; j < LOGINS_PER_CLIENT; j++) {
+                    try {
+                        authService.login(new LoginRequest("benchmark", "password123"));
+                        succeeded.incrementAndGet();
+                    } catch (ServiceBusyException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        clients.shutdown();
+
+        System.out.printf("Login benchmark: %d clients, %d succeeded, %d rejected in %.2fs (%.1f logins/s)%n",
+                CLIENTS, succeeded.get(), rejected.get(), seconds, succeeded.get() / seconds);
+        assertEquals(CLIENTS * LOGINS_PER_CLIENT, succeeded.get() + rejected.get());
+        assertTrue(succeeded.get() > 0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bt.customer.service;
+
+import com.bt.customer.entity.RevokedToken;
+import com.bt.customer.entity.User;
+import com.bt.customer.repository.RevokedTokenRepository;
+import com.bt.customer.repository.UserRepository;
+import com.bt.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        tokenRevocationService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should reject a token as soon as the logout commits and purge expired entries")
+    void shouldRevokeTokenAfterCommit() {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .scope(RevokedToken.Scope.TOKEN)
+                .tokenId("expired-token-id")
+                .username("someone")
+                .reason("logout")
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+        String token = tokenProvider.generateTokenForUser("alice", "CUSTOMER");
+        String other = tokenProvider.generateTokenForUser("alice", "CUSTOMER");
+        long previousVersion = tokenRevocationService.getRevocationList().getVersion();
+
+        tokenRevocationService.revokeToken(token, "logout");
+
+        assertFalse(tokenProvider.validateToken(token));
+        assertTrue(tokenProvider.validateToken(other));
+        assertTrue(tokenRevocationService.getRevocationList().getVersion() > previousVersion);
+        assertEquals(1, revokedTokenRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should reject every token issued to a user once an admin revokes them")
+    void shouldRevokeAllTokensForUser() throws InterruptedException {
+        userRepository.save(User.builder()
+                .username("bob")
+                .password("encoded-password")
+                .fullName("Bob Jones")
+                .email("bob@example.com")
+                .role(User.Role.CUSTOMER)
+                .build());
+        String token = tokenProvider.generateTokenForUser("bob", "CUSTOMER");
+        String unrelated = tokenProvider.generateTokenForUser("carol", "CUSTOMER");
+        // Token issue times have whole-second precision; revoke in a later second than the token was issued.
+        Thread.sleep(1000 - System.currentTimeMillis() % 1000 + 10);
+
+        tokenRevocationService.revokeAllForUser("bob", "compromised");
+
+        assertFalse(tokenProvider.validateToken(token));
+        assertTrue(tokenProvider.validateToken(unrelated));
+        assertEquals(1, tokenRevocationService.getRevocationList().size());
+    }
+}
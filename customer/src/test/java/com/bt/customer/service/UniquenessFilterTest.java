@@ -0,0 +1,86 @@
+package com.bt.customer.service;
+
+import com.bt.customer.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UniquenessFilter Tests")
+class UniquenessFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private UniquenessFilter uniquenessFilter;
+
+    @BeforeEach
+    void setUp() {
+        uniquenessFilter.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("Should answer maybe for everything until the first rebuild")
+    void shouldFallBackToDatabaseBeforeRebuild() {
+        assertFalse(uniquenessFilter.isReady());
+        assertTrue(uniquenessFilter.mightContainUsername("anyone"));
+        assertTrue(uniquenessFilter.mightContainEmail("anyone@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should load taken usernames and emails on rebuild and learn new ones")
+    void shouldRebuildAndAdd() {
+        rebuildWith(new Object[] { "alice", "alice@example.com" }, new Object[] { "Bob", "bob@example.com" });
+
+        assertTrue(uniquenessFilter.isReady());
+        assertTrue(uniquenessFilter.mightContainUsername("alice"));
+        assertTrue(uniquenessFilter.mightContainUsername("BOB"));
+        assertTrue(uniquenessFilter.mightContainEmail("Alice@Example.com"));
+        assertFalse(uniquenessFilter.mightContainUsername("carol"));
+        assertFalse(uniquenessFilter.mightContainEmail("carol@example.com"));
+
+        uniquenessFilter.add("carol", "carol@example.com");
+
+        assertTrue(uniquenessFilter.mightContainUsername("carol"));
+        assertTrue(uniquenessFilter.mightContainEmail("carol@example.com"));
+        assertEquals(1.0, meterRegistry.get("customer.uniqueness.checks")
+                .tag("field", "username").tag("result", "skipped").counter().count());
+        assertTrue(meterRegistry.get("customer.uniqueness.filter.bits").tag("field", "email").gauge().value() > 0);
+        assertTrue(meterRegistry.get("customer.uniqueness.filter.fpp").tag("field", "email").gauge().value() < 0.01);
+    }
+
+    @Test
+    @DisplayName("Should fold accents and case like the database collation")
+    void shouldNormalizeLikeCollation() {
+        assertEquals("jose@example.com", UniquenessFilter.normalize(" José@Example.COM "));
+    }
+
+    private void rebuildWith(Object[]... rows) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(userRepository.count()).thenReturn((long) rows.length);
+        when(userRepository.streamUsernamesAndEmails()).thenReturn(Stream.of(rows));
+        uniquenessFilter.rebuild();
+    }
+}
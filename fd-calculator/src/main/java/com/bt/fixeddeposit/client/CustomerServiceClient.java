@@ -1,11 +1,17 @@
 package com.bt.fixeddeposit.client;
 
+import com.bt.fixeddeposit.dto.external.CustomerBatchRequest;
+import com.bt.fixeddeposit.dto.external.CustomerBatchResponse;
+import com.bt.fixeddeposit.dto.external.CustomerChangeFeedResponse;
 import com.bt.fixeddeposit.dto.external.CustomerResponse;
 import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "customer-service", url = "${services.customer.url}")
 public interface CustomerServiceClient {
@@ -15,6 +21,17 @@ public interface CustomerServiceClient {
             @PathVariable("id") Long id,
             @RequestHeader("Authorization") String token);
 
+    @PostMapping("/api/v1/customers/batch")
+    ExternalApiResponse<CustomerBatchResponse> getCustomersByIds(
+            @RequestBody CustomerBatchRequest request,
+            @RequestHeader("Authorization") String token);
+
+    @GetMapping("/api/v1/customers/changes")
+    ExternalApiResponse<CustomerChangeFeedResponse> getCustomerChanges(
+            @RequestParam("after") Long after,
+            @RequestParam("limit") Integer limit,
+            @RequestHeader("Authorization") String token);
+
     @GetMapping("/api/v1/customers/validate")
     ExternalApiResponse<Boolean> validateCustomer(
             @RequestHeader("Authorization") String token);
@@ -1,11 +1,15 @@
 package com.bt.fixeddeposit.client;
 
+import com.bt.fixeddeposit.dto.external.CatalogChangeFeedResponse;
 import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
 import com.bt.fixeddeposit.dto.external.ProductResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "product-service", url = "${services.product.url}")
 public interface ProductServiceClient {
@@ -15,8 +19,19 @@ public interface ProductServiceClient {
             @PathVariable("productCode") String productCode,
             @RequestHeader("Authorization") String token);
 
+    @GetMapping("/api/v1/product/{productCode}")
+    ResponseEntity<ExternalApiResponse<ProductResponse>> getProductByCodeIfNoneMatch(
+            @PathVariable("productCode") String productCode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String entityTag,
+            @RequestHeader("Authorization") String token);
+
     @GetMapping("/api/v1/product/{id}")
     ExternalApiResponse<ProductResponse> getProductById(
             @PathVariable("id") Long id,
             @RequestHeader("Authorization") String token);
+
+    @GetMapping("/api/v1/product/changes")
+    ExternalApiResponse<CatalogChangeFeedResponse> getCatalogChanges(
+            @RequestParam(value = "sinceVersion", required = false) Long sinceVersion,
+            @RequestHeader("Authorization") String token);
 }
@@ -58,6 +58,17 @@ public class FdCalculatorController {
         return ResponseEntity.ok(ApiResponse.success(response, "Calculation history retrieved successfully"));
     }
 
+    @GetMapping("/report/recent")
+    @PreAuthorize("hasAnyRole('BANKOFFICER', 'ADMIN')")
+    @Operation(summary = "Officer report of recent calculations", description = "Retrieve FD calculations across all customers within specified days, with customer names resolved through batched Customer Service lookups")
+    public ResponseEntity<ApiResponse<List<FdCalculationResponse>>> getOfficerReport(
+            @RequestParam(defaultValue = "7") Integer days,
+            @RequestHeader("Authorization") String authToken) {
+
+        List<FdCalculationResponse> response = calculationService.getOfficerReport(days, authToken);
+        return ResponseEntity.ok(ApiResponse.success(response, "Calculation report generated successfully"));
+    }
+
     @GetMapping("/recent/{customerId}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'BANKOFFICER', 'ADMIN')")
     @Operation(summary = "Get recent calculations", description = "Retrieve recent FD calculations for a customer within specified days")
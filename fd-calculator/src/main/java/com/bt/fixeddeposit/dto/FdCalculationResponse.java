@@ -1,5 +1,8 @@
 package com.bt.fixeddeposit.dto;
 
+import com.bt.web.SparseFieldsetAdvice;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,10 +12,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(SparseFieldsetAdvice.FILTER_ID)
 public class FdCalculationResponse {
 
     private Long id;
     private Long customerId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String customerName;
     private String productCode;
     private String productName;
     private BigDecimal principalAmount;
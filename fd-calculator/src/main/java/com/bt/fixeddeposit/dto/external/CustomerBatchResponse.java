@@ -0,0 +1,17 @@
+package com.bt.fixeddeposit.dto.external;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerBatchResponse {
+
+    private Map<Long, CustomerResponse> customers;
+    private List<Long> missingIds;
+}
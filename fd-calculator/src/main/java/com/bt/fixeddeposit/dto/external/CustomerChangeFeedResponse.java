@@ -0,0 +1,48 @@
+package com.bt.fixeddeposit.dto.external;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerChangeFeedResponse {
+
+    private List<Change> changes;
+    private Long nextOffset;
+    private Long oldestOffset;
+    private boolean hasMore;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Change {
+
+        private Long offset;
+        private String changeType;
+        private Long customerId;
+        private String username;
+        private String fullName;
+        private String email;
+        private String phoneNumber;
+        private String role;
+        private Boolean active;
+
+        public CustomerResponse toCustomer() {
+            return CustomerResponse.builder()
+                    .id(customerId)
+                    .username(username)
+                    .email(email)
+                    .fullName(fullName)
+                    .phoneNumber(phoneNumber)
+                    .role(role)
+                    .active(active)
+                    .build();
+        }
+    }
+}
@@ -23,6 +23,8 @@ public interface FdCalculationRepository extends JpaRepository<FdCalculation, Lo
     List<FdCalculation> findCalculationsByProductAndDate(@Param("productCode") String productCode,
             @Param("startDate") LocalDateTime startDate);
 
+    List<FdCalculation> findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(LocalDateTime startDate);
+
     @Query("SELECT COUNT(f) FROM FdCalculation f WHERE f.customerId = :customerId")
     Long countByCustomerId(@Param("customerId") Long customerId);
 }
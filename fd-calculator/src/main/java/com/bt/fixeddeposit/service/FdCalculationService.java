@@ -1,9 +1,10 @@
 package com.bt.fixeddeposit.service;
 
 import com.bt.fixeddeposit.client.CustomerServiceClient;
-import com.bt.fixeddeposit.client.ProductServiceClient;
 import com.bt.fixeddeposit.dto.FdCalculationRequest;
 import com.bt.fixeddeposit.dto.FdCalculationResponse;
+import com.bt.fixeddeposit.dto.external.CustomerBatchRequest;
+import com.bt.fixeddeposit.dto.external.CustomerBatchResponse;
 import com.bt.fixeddeposit.dto.external.CustomerResponse;
 import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
 import com.bt.fixeddeposit.dto.external.ProductResponse;
@@ -19,7 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,7 +33,8 @@ public class FdCalculationService {
 
     private final FdCalculationRepository calculationRepository;
     private final CustomerServiceClient customerServiceClient;
-    private final ProductServiceClient productServiceClient;
+    private final ProductLookup productLookup;
+    private final CustomerReplica customerReplica;
 
     @Value("${app.calculation.default-compounding-frequency}")
     private Integer defaultCompoundingFrequency;
@@ -37,6 +42,9 @@ public class FdCalculationService {
     @Value("${app.calculation.rounding-scale}")
     private Integer roundingScale;
 
+    @Value("${services.customer.batch-size:500}")
+    private int customerBatchSize = 500;
+
     @Transactional
     public FdCalculationResponse calculateFd(FdCalculationRequest request, String authToken) {
         log.info("Processing FD calculation request for customer: {} and product: {}",
@@ -109,18 +117,75 @@ public class FdCalculationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<FdCalculationResponse> getOfficerReport(Integer days, String authToken) {
+        LocalDateTime startDate = LocalDateTime.now().minusDays(days);
+        List<FdCalculation> calculations = calculationRepository
+                .findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(startDate);
+
+        Map<Long, CustomerResponse> customers = fetchCustomers(calculations.stream()
+                .map(FdCalculation::getCustomerId)
+                .distinct()
+                .collect(Collectors.toList()), authToken);
+        Map<String, String> productNames = new HashMap<>();
+
+        return calculations.stream()
+                .map(calc -> {
+                    FdCalculationResponse response = buildCalculationResponse(calc,
+                            productNames.computeIfAbsent(calc.getProductCode(),
+                                    code -> fetchProductNameSafely(code, authToken)));
+                    CustomerResponse customer = customers.get(calc.getCustomerId());
+                    if (customer != null) {
+                        response.setCustomerName(customer.getFullName());
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, CustomerResponse> fetchCustomers(List<Long> customerIds, String authToken) {
+        Map<Long, CustomerResponse> customers = new HashMap<>();
+        List<Long> pending = new ArrayList<>(customerIds);
+        pending.removeIf(id -> id == null);
+        for (int from = 0; from < pending.size(); from += customerBatchSize) {
+            List<Long> chunk = pending.subList(from, Math.min(from + customerBatchSize, pending.size()));
+            try {
+                ExternalApiResponse<CustomerBatchResponse> response = customerServiceClient.getCustomersByIds(
+                        CustomerBatchRequest.builder().ids(chunk).build(), authToken);
+                if (response == null || response.getData() == null) {
+                    continue;
+                }
+                CustomerBatchResponse batch = response.getData();
+                if (batch.getCustomers() != null) {
+                    customers.putAll(batch.getCustomers());
+                }
+                if (batch.getMissingIds() != null && !batch.getMissingIds().isEmpty()) {
+                    log.warn("Customers not found for report: {}", batch.getMissingIds());
+                }
+            } catch (FeignException e) {
+                log.error("Failed to fetch {} customers in batch", chunk.size(), e);
+                throw new ServiceIntegrationException("Failed to fetch customer information", e);
+            }
+        }
+        return customers;
+    }
+
     private void validateCustomer(Long customerId, String authToken) {
+        CustomerResponse customer = customerReplica.find(customerId)
+                .orElseGet(() -> fetchCustomer(customerId, authToken));
+        if (!Boolean.TRUE.equals(customer.getActive())) {
+            throw new InvalidCalculationDataException("Customer account is not active");
+        }
+    }
+
+    private CustomerResponse fetchCustomer(Long customerId, String authToken) {
         try {
             ExternalApiResponse<CustomerResponse> response = customerServiceClient.getCustomerById(customerId,
                     authToken);
             if (response == null || !Boolean.TRUE.equals(response.getSuccess()) || response.getData() == null) {
                 throw new CustomerNotFoundException("Customer not found with ID: " + customerId);
             }
-
-            CustomerResponse customer = response.getData();
-            if (!Boolean.TRUE.equals(customer.getActive())) {
-                throw new InvalidCalculationDataException("Customer account is not active");
-            }
+            return response.getData();
         } catch (FeignException e) {
             log.error("Failed to validate customer with ID: {}", customerId, e);
             throw new ServiceIntegrationException("Failed to validate customer information", e);
@@ -129,8 +194,7 @@ public class FdCalculationService {
 
     private ProductResponse fetchProductDetails(String productCode, String authToken) {
         try {
-            ExternalApiResponse<ProductResponse> response = productServiceClient.getProductByCode(productCode,
-                    authToken);
+            ExternalApiResponse<ProductResponse> response = productLookup.getProductByCode(productCode, authToken);
             if (response == null || !Boolean.TRUE.equals(response.getSuccess()) || response.getData() == null) {
                 throw new ProductNotFoundException("Product not found with code: " + productCode);
             }
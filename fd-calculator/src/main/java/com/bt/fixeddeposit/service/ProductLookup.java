@@ -0,0 +1,72 @@
+package com.bt.fixeddeposit.service;
+
+import com.bt.feed.RevalidatingCache;
+import com.bt.fixeddeposit.client.ProductServiceClient;
+import com.bt.fixeddeposit.dto.external.CatalogChangeFeedResponse;
+import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
+import com.bt.fixeddeposit.dto.external.ProductResponse;
+import com.bt.security.JwtTokenProvider;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ProductLookup {
+
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
+    private final ProductServiceClient productServiceClient;
+    private final JwtTokenProvider tokenProvider;
+
+    @Value("${spring.application.name:fd-calculator-service}")
+    private String serviceName;
+
+    @Value("${services.product.revalidation.max-entries:1000}")
+    private int maxEntries = 1000;
+
+    @Value("${services.product.change-feed.max-pages-per-poll:20}")
+    private int maxPagesPerPoll = 20;
+
+    private final RevalidatingCache<ExternalApiResponse<ProductResponse>> products = new RevalidatingCache<>("product",
+            CATALOG_VERSION_HEADER, body -> body.getData() != null);
+
+    public ExternalApiResponse<ProductResponse> getProductByCode(String productCode, String token) {
+        return products.get(productCode, maxEntries,
+                entityTag -> productServiceClient.getProductByCodeIfNoneMatch(productCode, entityTag, token),
+                ProductLookup::statusOf);
+    }
+
+    public boolean isSubscribed() {
+        return products.isSubscribed();
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    @Scheduled(fixedDelayString = "${services.product.change-feed.poll-interval-ms:2000}")
+    public void poll() {
+        String token = "Bearer " + tokenProvider.generateServiceToken(serviceName);
+        products.poll(version -> page(productServiceClient.getCatalogChanges(version, token)), maxPagesPerPoll);
+    }
+
+    private static RevalidatingCache.FeedPage page(ExternalApiResponse<CatalogChangeFeedResponse> response) {
+        CatalogChangeFeedResponse feed = response != null ? response.getData() : null;
+        if (feed == null) {
+            return null;
+        }
+        List<String> changedCodes = feed.getChanges() == null ? List.of()
+                : feed.getChanges().stream().map(CatalogChangeFeedResponse.Change::getProductCode).toList();
+        return new RevalidatingCache.FeedPage(feed.getFeedId(), feed.getCatalogVersion(), feed.isResyncRequired(),
+                changedCodes, feed.isHasMore());
+    }
+
+    private static int statusOf(RuntimeException e) {
+        return e instanceof FeignException feignException ? feignException.status() : -1;
+    }
+}
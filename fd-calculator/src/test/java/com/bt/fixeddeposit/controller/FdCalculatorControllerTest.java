@@ -174,6 +174,26 @@ class FdCalculatorControllerTest {
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
 
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void testGetCalculationHistory_WithFields_ReturnsOnlyRequestedProperties() throws Exception {
+        List<FdCalculationResponse> history = Arrays.asList(validResponse, validResponse);
+        when(calculationService.getCalculationHistory(eq(1L), anyString()))
+                .thenReturn(history);
+
+        mockMvc.perform(get("/api/fd/history/1")
+                .param("fields", "id,productCode,maturityAmount")
+                .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].productCode").value("FD-001"))
+                .andExpect(jsonPath("$.data[0].maturityAmount").exists())
+                .andExpect(jsonPath("$.data[0].principalAmount").doesNotExist())
+                .andExpect(jsonPath("$.data[1].customerId").doesNotExist());
+    }
+
     @Test
     @WithMockUser(roles = "BANKOFFICER")
     void testGetRecentCalculations_Success() throws Exception {
@@ -0,0 +1,111 @@
+package com.bt.fixeddeposit.service;
+
+import com.bt.fixeddeposit.client.CustomerServiceClient;
+import com.bt.fixeddeposit.dto.external.CustomerChangeFeedResponse;
+import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
+import com.bt.security.JwtTokenProvider;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerReplicaTest {
+
+    @Mock
+    private CustomerServiceClient customerServiceClient;
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    @InjectMocks
+    private CustomerReplica customerReplica;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(customerReplica, "serviceName", "fd-calculator-service");
+        ReflectionTestUtils.setField(customerReplica, "pageSize", 2);
+        when(tokenProvider.generateServiceToken("fd-calculator-service")).thenReturn("service-token");
+    }
+
+    @Test
+    void poll_AppliesPagesInOrderUntilCaughtUp() {
+        when(customerServiceClient.getCustomerChanges(0L, 2, "Bearer service-token"))
+                .thenReturn(feed(2L, 1L, true, change(1L, 10L, "CREATED", true), change(2L, 11L, "CREATED", true)));
+        when(customerServiceClient.getCustomerChanges(2L, 2, "Bearer service-token"))
+                .thenReturn(feed(3L, 1L, false, change(3L, 10L, "STATUS_CHANGED", false)));
+
+        assertTrue(customerReplica.find(10L).isEmpty());
+
+        customerReplica.poll();
+
+        assertTrue(customerReplica.isCaughtUp());
+        assertEquals(3L, customerReplica.getOffset());
+        assertFalse(customerReplica.find(10L).orElseThrow().getActive());
+        assertTrue(customerReplica.find(11L).orElseThrow().getActive());
+        assertTrue(customerReplica.find(12L).isEmpty());
+    }
+
+    @Test
+    void poll_ResynchronisesWhenFeedWasPurgedPastOffset() {
+        when(customerServiceClient.getCustomerChanges(0L, 2, "Bearer service-token"))
+                .thenReturn(feed(5L, 1L, false, change(5L, 10L, "CREATED", true)))
+                .thenReturn(feed(9L, 8L, false, change(9L, 20L, "CREATED", true)));
+        customerReplica.poll();
+        when(customerServiceClient.getCustomerChanges(5L, 2, "Bearer service-token"))
+                .thenReturn(feed(5L, 8L, false));
+
+        customerReplica.poll();
+
+        assertEquals(9L, customerReplica.getOffset());
+        assertTrue(customerReplica.find(10L).isEmpty());
+        assertTrue(customerReplica.find(20L).isPresent());
+    }
+
+    @Test
+    void poll_KeepsStateWhenCustomerServiceIsUnavailable() {
+        when(customerServiceClient.getCustomerChanges(anyLong(), anyInt(), anyString()))
+                .thenThrow(mock(FeignException.class));
+
+        customerReplica.poll();
+
+        assertFalse(customerReplica.isCaughtUp());
+        assertEquals(0L, customerReplica.getOffset());
+    }
+
+    private ExternalApiResponse<CustomerChangeFeedResponse> feed(Long nextOffset, Long oldestOffset, boolean hasMore,
+            CustomerChangeFeedResponse.Change... changes) {
+        return ExternalApiResponse.<CustomerChangeFeedResponse>builder()
+                .success(true)
+                .data(CustomerChangeFeedResponse.builder()
+                        .changes(List.of(changes))
+                        .nextOffset(nextOffset)
+                        .oldestOffset(oldestOffset)
+                        .hasMore(hasMore)
+                        .build())
+                .build();
+    }
+
+    private CustomerChangeFeedResponse.Change change(Long offset, Long customerId, String type, boolean active) {
+        return CustomerChangeFeedResponse.Change.builder()
+                .offset(offset)
+                .changeType(type)
+                .customerId(customerId)
+                .username("user" + customerId)
+                .fullName("User " + customerId)
+                .email("user" + customerId + "@example.com")
+                .role("CUSTOMER")
+                .active(active)
+                .build();
+    }
+}
@@ -1,9 +1,10 @@
 package com.bt.fixeddeposit.service;
 
 import com.bt.fixeddeposit.client.CustomerServiceClient;
-import com.bt.fixeddeposit.client.ProductServiceClient;
 import com.bt.fixeddeposit.dto.FdCalculationRequest;
 import com.bt.fixeddeposit.dto.FdCalculationResponse;
+import com.bt.fixeddeposit.dto.external.CustomerBatchRequest;
+import com.bt.fixeddeposit.dto.external.CustomerBatchResponse;
 import com.bt.fixeddeposit.dto.external.CustomerResponse;
 import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
 import com.bt.fixeddeposit.dto.external.ProductResponse;
@@ -22,6 +23,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,7 +40,10 @@ class FdCalculationServiceTest {
     private CustomerServiceClient customerServiceClient;
 
     @Mock
-    private ProductServiceClient productServiceClient;
+    private ProductLookup productLookup;
+
+    @Mock
+    private CustomerReplica customerReplica;
 
     @InjectMocks
     private FdCalculationService calculationService;
@@ -118,7 +123,7 @@ class FdCalculationServiceTest {
                 .build();
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
         when(calculationRepository.save(any(FdCalculation.class))).thenReturn(savedCalculation);
 
         FdCalculationResponse response = calculationService.calculateFd(validRequest, authToken);
@@ -131,7 +136,7 @@ class FdCalculationServiceTest {
         assertTrue(response.getMaturityAmount().compareTo(response.getPrincipalAmount()) > 0);
 
         verify(customerServiceClient).getCustomerById(eq(1L), eq(authToken));
-        verify(productServiceClient).getProductByCode(eq("FD-001"), eq(authToken));
+        verify(productLookup).getProductByCode(eq("FD-001"), eq(authToken));
         verify(calculationRepository).save(any(FdCalculation.class));
     }
 
@@ -143,7 +148,7 @@ class FdCalculationServiceTest {
         assertThrows(ServiceIntegrationException.class, () -> calculationService.calculateFd(validRequest, authToken));
 
         verify(customerServiceClient).getCustomerById(eq(1L), eq(authToken));
-        verify(productServiceClient, never()).getProductByCode(anyString(), anyString());
+        verify(productLookup, never()).getProductByCode(anyString(), anyString());
         verify(calculationRepository, never()).save(any());
     }
 
@@ -155,13 +160,13 @@ class FdCalculationServiceTest {
                 .build();
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken)))
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken)))
                 .thenThrow(mock(FeignException.class));
 
         assertThrows(ServiceIntegrationException.class, () -> calculationService.calculateFd(validRequest, authToken));
 
         verify(customerServiceClient).getCustomerById(eq(1L), eq(authToken));
-        verify(productServiceClient).getProductByCode(eq("FD-001"), eq(authToken));
+        verify(productLookup).getProductByCode(eq("FD-001"), eq(authToken));
         verify(calculationRepository, never()).save(any());
     }
 
@@ -179,7 +184,19 @@ class FdCalculationServiceTest {
                 () -> calculationService.calculateFd(validRequest, authToken));
 
         verify(customerServiceClient).getCustomerById(eq(1L), eq(authToken));
-        verify(productServiceClient, never()).getProductByCode(anyString(), anyString());
+        verify(productLookup, never()).getProductByCode(anyString(), anyString());
+    }
+
+    @Test
+    void testCalculateFd_UsesReplicatedCustomerWithoutRemoteCall() {
+        validCustomer.setActive(false);
+        when(customerReplica.find(1L)).thenReturn(Optional.of(validCustomer));
+
+        assertThrows(InvalidCalculationDataException.class,
+                () -> calculationService.calculateFd(validRequest, authToken));
+
+        verify(customerServiceClient, never()).getCustomerById(anyLong(), anyString());
+        verify(productLookup, never()).getProductByCode(anyString(), anyString());
     }
 
     @Test
@@ -196,12 +213,12 @@ class FdCalculationServiceTest {
                 .build();
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         assertThrows(InvalidCalculationDataException.class,
                 () -> calculationService.calculateFd(validRequest, authToken));
 
-        verify(productServiceClient).getProductByCode(eq("FD-001"), eq(authToken));
+        verify(productLookup).getProductByCode(eq("FD-001"), eq(authToken));
         verify(calculationRepository, never()).save(any());
     }
 
@@ -219,7 +236,7 @@ class FdCalculationServiceTest {
                 .build();
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         assertThrows(InvalidCalculationDataException.class,
                 () -> calculationService.calculateFd(validRequest, authToken));
@@ -241,7 +258,7 @@ class FdCalculationServiceTest {
                 .build();
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         assertThrows(InvalidCalculationDataException.class,
                 () -> calculationService.calculateFd(validRequest, authToken));
@@ -257,7 +274,7 @@ class FdCalculationServiceTest {
                 .build();
 
         when(calculationRepository.findById(eq(1L))).thenReturn(Optional.of(savedCalculation));
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         FdCalculationResponse response = calculationService.getCalculationById(1L, authToken);
 
@@ -266,7 +283,7 @@ class FdCalculationServiceTest {
         assertEquals("FD-001", response.getProductCode());
 
         verify(calculationRepository).findById(eq(1L));
-        verify(productServiceClient).getProductByCode(eq("FD-001"), eq(authToken));
+        verify(productLookup).getProductByCode(eq("FD-001"), eq(authToken));
     }
 
     @Test
@@ -276,7 +293,7 @@ class FdCalculationServiceTest {
         assertThrows(CalculationNotFoundException.class, () -> calculationService.getCalculationById(1L, authToken));
 
         verify(calculationRepository).findById(eq(1L));
-        verify(productServiceClient, never()).getProductByCode(anyString(), anyString());
+        verify(productLookup, never()).getProductByCode(anyString(), anyString());
     }
 
     @Test
@@ -295,7 +312,7 @@ class FdCalculationServiceTest {
 
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
         when(calculationRepository.findByCustomerIdOrderByCreatedAtDesc(eq(1L))).thenReturn(calculations);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         List<FdCalculationResponse> response = calculationService.getCalculationHistory(1L, authToken);
 
@@ -323,7 +340,7 @@ class FdCalculationServiceTest {
         when(customerServiceClient.getCustomerById(eq(1L), eq(authToken))).thenReturn(customerApiResponse);
         when(calculationRepository.findRecentCalculationsByCustomer(eq(1L), any(LocalDateTime.class)))
                 .thenReturn(calculations);
-        when(productServiceClient.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken))).thenReturn(productApiResponse);
 
         List<FdCalculationResponse> response = calculationService.getRecentCalculations(1L, 30, authToken);
 
@@ -333,4 +350,38 @@ class FdCalculationServiceTest {
         verify(customerServiceClient).getCustomerById(eq(1L), eq(authToken));
         verify(calculationRepository).findRecentCalculationsByCustomer(eq(1L), any(LocalDateTime.class));
     }
+
+    @Test
+    void getOfficerReport_ResolvesCustomersInOneBatchCall() {
+        FdCalculation other = FdCalculation.builder()
+                .id(2L)
+                .customerId(2L)
+                .productCode("FD-001")
+                .principalAmount(BigDecimal.valueOf(50000))
+                .tenureMonths(12)
+                .build();
+        when(calculationRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(savedCalculation, other));
+        when(customerServiceClient.getCustomersByIds(any(CustomerBatchRequest.class), eq(authToken)))
+                .thenReturn(ExternalApiResponse.<CustomerBatchResponse>builder()
+                        .success(true)
+                        .data(CustomerBatchResponse.builder()
+                                .customers(Map.of(1L, validCustomer))
+                                .missingIds(List.of(2L))
+                                .build())
+                        .build());
+        when(productLookup.getProductByCode(eq("FD-001"), eq(authToken)))
+                .thenReturn(ExternalApiResponse.<ProductResponse>builder().success(true).data(validProduct).build());
+
+        List<FdCalculationResponse> report = calculationService.getOfficerReport(7, authToken);
+
+        assertEquals(2, report.size());
+        assertEquals("Test User", report.get(0).getCustomerName());
+        assertNull(report.get(1).getCustomerName());
+        assertEquals("Fixed Deposit - Regular", report.get(1).getProductName());
+        verify(customerServiceClient, times(1)).getCustomersByIds(
+                argThat(request -> request.getIds().equals(List.of(1L, 2L))), eq(authToken));
+        verify(customerServiceClient, never()).getCustomerById(anyLong(), anyString());
+        verify(productLookup, times(1)).getProductByCode(eq("FD-001"), eq(authToken));
+    }
 }
@@ -0,0 +1,152 @@
+package com.bt.fixeddeposit.service;
+
+import com.bt.fixeddeposit.client.ProductServiceClient;
+import com.bt.fixeddeposit.dto.external.CatalogChangeFeedResponse;
+import com.bt.fixeddeposit.dto.external.ExternalApiResponse;
+import com.bt.fixeddeposit.dto.external.ProductResponse;
+import com.bt.security.JwtTokenProvider;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductLookupTest {
+
+    private static final String TOKEN = "Bearer token";
+
+    @Mock
+    private ProductServiceClient productServiceClient;
+
+    @Mock
+    private JwtTokenProvider tokenProvider;
+
+    @InjectMocks
+    private ProductLookup productLookup;
+
+    private ExternalApiResponse<ProductResponse> productResponse;
+
+    @BeforeEach
+    void setUp() {
+        ProductResponse product = new ProductResponse();
+        product.setProductCode("FD-001");
+        productResponse = new ExternalApiResponse<>();
+        productResponse.setSuccess(true);
+        productResponse.setData(product);
+        ReflectionTestUtils.setField(productLookup, "serviceName", "fd-calculator-service");
+    }
+
+    @Test
+    void getProductByCode_RevalidatesWithStoredEntityTag() {
+        when(productServiceClient.getProductByCodeIfNoneMatch("FD-001", null, TOKEN))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18d").body(productResponse));
+        FeignException notModified = mock(FeignException.class);
+        when(notModified.status()).thenReturn(304);
+        when(productServiceClient.getProductByCodeIfNoneMatch("FD-001", "\"p1-18d\"", TOKEN))
+                .thenThrow(notModified);
+
+        assertSame(productResponse, productLookup.getProductByCode("FD-001", TOKEN));
+        assertSame(productResponse, productLookup.getProductByCode("FD-001", TOKEN));
+
+        verify(productServiceClient).getProductByCodeIfNoneMatch("FD-001", "\"p1-18d\"", TOKEN);
+        assertEquals(1, productLookup.size());
+    }
+
+    @Test
+    void getProductByCode_ReplacesChangedProduct() {
+        ExternalApiResponse<ProductResponse> updated = new ExternalApiResponse<>();
+        updated.setSuccess(true);
+        updated.setData(new ProductResponse());
+        when(productServiceClient.getProductByCodeIfNoneMatch(eq("FD-001"), any(), eq(TOKEN)))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18d").body(productResponse))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18e").body(updated));
+
+        productLookup.getProductByCode("FD-001", TOKEN);
+
+        assertSame(updated, productLookup.getProductByCode("FD-001", TOKEN));
+    }
+
+    @Test
+    void getProductByCode_PropagatesFailuresWithoutCachedCopy() {
+        FeignException notModified = mock(FeignException.class);
+        when(notModified.status()).thenReturn(304);
+        when(productServiceClient.getProductByCodeIfNoneMatch("FD-001", null, TOKEN)).thenThrow(notModified);
+
+        assertThrows(FeignException.class, () -> productLookup.getProductByCode("FD-001", TOKEN));
+        assertEquals(0, productLookup.size());
+    }
+
+    @Test
+    void poll_ServesCachedProductsUntilChangeFeedInvalidatesThem() {
+        when(tokenProvider.generateServiceToken("fd-calculator-service")).thenReturn("service-token");
+        when(productServiceClient.getCatalogChanges(null, "Bearer service-token"))
+                .thenReturn(feed(CatalogChangeFeedResponse.builder().feedId("feed-1").catalogVersion(4L)
+                        .resyncRequired(true).changes(List.of()).build()));
+        when(productServiceClient.getCatalogChanges(4L, "Bearer service-token"))
+                .thenReturn(feed(CatalogChangeFeedResponse.builder().feedId("feed-1").catalogVersion(6L)
+                        .changes(List.of(CatalogChangeFeedResponse.Change.builder()
+                                .version(6L).changeType("UPDATED").productCode("FD-001").build()))
+                        .build()));
+        when(productServiceClient.getProductByCodeIfNoneMatch(eq("FD-001"), any(), eq(TOKEN)))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18d").body(productResponse));
+
+        productLookup.poll();
+        assertTrue(productLookup.isSubscribed());
+        productLookup.getProductByCode("FD-001", TOKEN);
+        productLookup.getProductByCode("FD-001", TOKEN);
+        verify(productServiceClient, times(1)).getProductByCodeIfNoneMatch(eq("FD-001"), any(), eq(TOKEN));
+
+        productLookup.poll();
+        assertEquals(0, productLookup.size());
+        productLookup.getProductByCode("FD-001", TOKEN);
+        verify(productServiceClient, times(2)).getProductByCodeIfNoneMatch(eq("FD-001"), any(), eq(TOKEN));
+    }
+
+    @Test
+    void getProductByCode_DoesNotCacheProductsOlderThanTheFeed() {
+        when(tokenProvider.generateServiceToken("fd-calculator-service")).thenReturn("service-token");
+        when(productServiceClient.getCatalogChanges(null, "Bearer service-token"))
+                .thenReturn(feed(CatalogChangeFeedResponse.builder().feedId("feed-1").catalogVersion(4L)
+                        .resyncRequired(true).changes(List.of()).build()));
+        when(productServiceClient.getProductByCodeIfNoneMatch(eq("FD-001"), any(), eq(TOKEN)))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18c").header(ProductLookup.CATALOG_VERSION_HEADER, "3")
+                        .body(productResponse))
+                .thenReturn(ResponseEntity.ok().eTag("p1-18d").header(ProductLookup.CATALOG_VERSION_HEADER, "4")
+                        .body(productResponse));
+        productLookup.poll();
+
+        productLookup.getProductByCode("FD-001", TOKEN);
+        assertEquals(0, productLookup.size());
+
+        productLookup.getProductByCode("FD-001", TOKEN);
+        assertEquals(1, productLookup.size());
+    }
+
+    @Test
+    void poll_FallsBackToRevalidationWhenFeedIsUnavailable() {
+        when(tokenProvider.generateServiceToken("fd-calculator-service")).thenReturn("service-token");
+        when(productServiceClient.getCatalogChanges(any(), anyString())).thenThrow(mock(FeignException.class));
+
+        productLookup.poll();
+
+        assertFalse(productLookup.isSubscribed());
+    }
+
+    private static ExternalApiResponse<CatalogChangeFeedResponse> feed(CatalogChangeFeedResponse data) {
+        ExternalApiResponse<CatalogChangeFeedResponse> response = new ExternalApiResponse<>();
+        response.setSuccess(true);
+        response.setData(data);
+        return response;
+    }
+}
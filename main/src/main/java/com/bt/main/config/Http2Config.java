@@ -0,0 +1,31 @@
+package com.bt.main.config;
+
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class Http2Config {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2ConnectorCustomizer(
+            @Value("${gateway.http2.max-concurrent-streams:200}") long maxConcurrentStreams,
+            @Value("${gateway.http2.max-concurrent-stream-execution:64}") int maxConcurrentStreamExecution,
+            @Value("${gateway.http2.initial-window-size:1048576}") int initialWindowSize,
+            @Value("${gateway.http2.keep-alive-timeout-ms:20000}") long keepAliveTimeout) {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol http2) {
+                    http2.setMaxConcurrentStreams(maxConcurrentStreams);
+                    http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+                    http2.setInitialWindowSize(initialWindowSize);
+                    http2.setKeepAliveTimeout(keepAliveTimeout);
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.bt.main.config;
 
+import com.bt.main.gateway.AccessLogFilter;
 import com.bt.main.security.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +10,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -16,9 +18,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AccessLogFilter accessLogFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, AccessLogFilter accessLogFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.accessLogFilter = accessLogFilter;
     }
 
     @Bean
@@ -49,6 +53,7 @@ public class SecurityConfig {
                         // Allow access to API endpoints (they will be handled by JWT filter)
                         .requestMatchers("/api/**").permitAll()
                         .anyRequest().permitAll())
+                .addFilterAfter(accessLogFilter, SecurityContextHolderFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
@@ -0,0 +1,124 @@
+package com.bt.main.gateway;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class AccessLogRingBuffer {
+
+    private final Entry[] entries;
+    private final int mask;
+    private final AtomicLong claimSequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long consumeSequence;
+
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two: " + capacity);
+        }
+        this.entries = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+        }
+        this.mask = capacity - 1;
+    }
+
+    public boolean offer(long timestamp, String method, String path, String user, String upstream,
+            int status, long latencyMicros, long bytes) {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            if (sequence - consumeSequence >= entries.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = entries[(int) (sequence & mask)];
+        entry.timestamp = timestamp;
+        entry.method = method;
+        entry.path = path;
+        entry.user = user;
+        entry.upstream = upstream;
+        entry.status = status;
+        entry.latencyMicros = latencyMicros;
+        entry.bytes = bytes;
+        entry.published = sequence;
+        return true;
+    }
+
+    public int drain(Consumer<Entry> handler, int maxEntries) {
+        long next = consumeSequence;
+        int drained = 0;
+        while (drained < maxEntries) {
+            Entry entry = entries[(int) (next & mask)];
+            if (entry.published != next) {
+                break;
+            }
+            handler.accept(entry);
+            entry.path = null;
+            entry.user = null;
+            entry.upstream = null;
+            next++;
+            drained++;
+            consumeSequence = next;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    public int size() {
+        return (int) Math.max(0, claimSequence.get() - consumeSequence);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public static final class Entry {
+
+        private volatile long published = -1;
+        private long timestamp;
+        private String method;
+        private String path;
+        private String user;
+        private String upstream;
+        private int status;
+        private long latencyMicros;
+        private long bytes;
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public String getUpstream() {
+            return upstream;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public long getLatencyMicros() {
+            return latencyMicros;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.bt.main.gateway;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long DROP_REPORT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final boolean enabled;
+    private final Path file;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final int batchSize;
+    private final AccessLogRingBuffer buffer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running;
+    private Thread consumer;
+    private Writer out;
+    private long currentSize;
+    private long reportedDrops;
+    private long lastDropReport;
+
+    public AccessLogWriter(
+            @Value("${gateway.access-log.enabled:true}") boolean enabled,
+            @Value("${gateway.access-log.directory:logs}") String directory,
+            @Value("${gateway.access-log.file-name:gateway-access.log}") String fileName,
+            @Value("${gateway.access-log.buffer-size:8192}") int bufferSize,
+            @Value("${gateway.access-log.batch-size:512}") int batchSize,
+            @Value("${gateway.access-log.max-file-size:10485760}") long maxFileSize,
+            @Value("${gateway.access-log.max-history:5}") int maxHistory) {
+        this.enabled = enabled;
+        this.file = Paths.get(directory, fileName);
+        this.buffer = new AccessLogRingBuffer(bufferSize);
+        this.batchSize = batchSize;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+    }
+
+    public boolean record(long timestamp, String method, String path, String user, String upstream,
+            int status, long latencyMicros, long bytes) {
+        return running && buffer.offer(timestamp, method, path, user, upstream, status, latencyMicros, bytes);
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            open();
+        } catch (IOException e) {
+            log.error("Access log disabled, cannot open {}: {}", file.toAbsolutePath(), e.getMessage());
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consume, "gateway-access-log");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("Access log writing to {} (buffer {} entries)", file.toAbsolutePath(), buffer.capacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Access log stopped, {} entries dropped in total", buffer.getDroppedCount());
+    }
+
+    private void consume() {
+        while (running || buffer.size() > 0) {
+            int drained = buffer.drain(this::append, batchSize);
+            if (drained == 0) {
+                reportDrops();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                out.flush();
+                if (currentSize >= maxFileSize) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                log.warn("Access log write failed: {}", e.getMessage());
+            }
+        }
+        close();
+    }
+
+    private void append(AccessLogRingBuffer.Entry entry) {
+        line.setLength(0);
+        line.append(Instant.ofEpochMilli(entry.getTimestamp()))
+                .append(' ').append(entry.getMethod())
+                .append(' ').append(entry.getPath())
+                .append(" user=").append(entry.getUser() != null ? entry.getUser() : "-")
+                .append(" upstream=").append(entry.getUpstream() != null ? entry.getUpstream() : "-")
+                .append(" status=").append(entry.getStatus())
+                .append(" latency_us=").append(entry.getLatencyMicros())
+                .append(" bytes=").append(entry.getBytes())
+                .append('\n');
+        try {
+            out.append(line);
+            currentSize += line.length();
+        } catch (IOException e) {
+            log.warn("Access log write failed: {}", e.getMessage());
+        }
+    }
+
+    private void reportDrops() {
+        long now = System.currentTimeMillis();
+        if (now - lastDropReport < DROP_REPORT_INTERVAL_MILLIS) {
+            return;
+        }
+        lastDropReport = now;
+        long drops = buffer.getDroppedCount();
+        if (drops > reportedDrops) {
+            log.warn("Access log buffer full, dropped {} entries since last report", drops - reportedDrops);
+            reportedDrops = drops;
+        }
+    }
+
+    private void open() throws IOException {
+        out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        currentSize = Files.size(file);
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = rotated(i);
+            if (Files.exists(source)) {
+                Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Failed to close access log: {}", e.getMessage());
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class ProxyController {
             throws IOException {
         String path = request.getRequestURI();
         String targetBase = resolveBaseUrl(path);
+        request.setAttribute(AccessLogFilter.UPSTREAM_ATTRIBUTE, targetBase);
         String targetUrl = targetBase + path;
         if (request.getQueryString() != null && !request.getQueryString().isEmpty()) {
             targetUrl += "?" + request.getQueryString();
@@ -65,6 +66,7 @@ public class ProxyController {
             targetBase = fdBase;
         else
             targetBase = accountsBase;
+        request.setAttribute(AccessLogFilter.UPSTREAM_ATTRIBUTE, targetBase);
         ResponseEntity<byte[]> resp = forward(request, null, targetBase + targetPath);
         if (!resp.getStatusCode().is2xxSuccessful() || resp.getBody() == null)
             return resp;
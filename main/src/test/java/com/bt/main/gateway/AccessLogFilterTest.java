@@ -0,0 +1,45 @@
+package com.bt.main.gateway;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessLogFilterTest {
+
+    private final AccessLogWriter accessLogWriter = mock(AccessLogWriter.class);
+    private final AccessLogFilter filter = new AccessLogFilter(accessLogWriter);
+
+    @Test
+    void recordsBytesStreamedWithoutContentLength() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product/catalog/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write("chunk-1".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            res.getOutputStream().write("chunk-2".getBytes(StandardCharsets.UTF_8));
+        });
+
+        verify(accessLogWriter).record(anyLong(), eq("GET"), eq("/api/product/catalog/stream"), isNull(), isNull(),
+                eq(200), anyLong(), eq(14L));
+    }
+
+    @Test
+    void recordsEncodedBytesWrittenThroughTheWriter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/profile");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+
+        filter.doFilter(request, response, (req, res) -> res.getWriter().write("café"));
+
+        verify(accessLogWriter).record(anyLong(), eq("GET"), eq("/api/customer/profile"), isNull(), isNull(),
+                eq(200), anyLong(), eq(5L));
+        assertEquals("café", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.bt.main.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void drainReturnsEntriesInOfferOrder() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        buffer.offer(1L, "GET", "/api/customer/profile", "alice", "http://localhost:8081", 200, 1500, 120);
+        buffer.offer(2L, "POST", "/api/fd/calculate", "bob", "http://localhost:8083", 201, 2500, 640);
+
+        List<String> paths = new ArrayList<>();
+        int drained = buffer.drain(entry -> paths.add(entry.getPath() + ":" + entry.getStatus()), 10);
+
+        assertEquals(2, drained);
+        assertEquals(List.of("/api/customer/profile:200", "/api/fd/calculate:201"), paths);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void offerDropsAndCountsWhenFull() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, "GET", "/p" + i, null, null, 200, 1, 1));
+        }
+
+        assertFalse(buffer.offer(5L, "GET", "/overflow", null, null, 200, 1, 1));
+        assertFalse(buffer.offer(6L, "GET", "/overflow", null, null, 200, 1, 1));
+        assertEquals(2, buffer.getDroppedCount());
+
+        assertEquals(2, buffer.drain(entry -> { }, 2));
+        assertTrue(buffer.offer(7L, "GET", "/after-drain", null, null, 200, 1, 1));
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer(1000));
+    }
+
+    @Test
+    void concurrentProducersNeverLoseAcceptedEntries() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    buffer.offer(producer * (long) perProducer + i, "GET", "/p", null, null, 200, 1, 1);
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Long> seen = new HashSet<>();
+        while (done.getCount() > 0 || buffer.size() > 0) {
+            buffer.drain(entry -> assertTrue(seen.add(entry.getTimestamp())), 256);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals((long) producers * perProducer, seen.size() + buffer.getDroppedCount());
+    }
+}
@@ -0,0 +1,47 @@
+package com.bt.product.controller;
+
+import com.bt.product.dto.ApiResponse;
+import com.bt.product.dto.CatalogChangeFeedResponse;
+import com.bt.product.service.CatalogChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/product/changes")
+@RequiredArgsConstructor
+@Tag(name = "Product Catalog Changes", description = "Feed of product and pricing-rule changes for consumers that cache products")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CatalogChangeController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final CatalogChangeFeed changeFeed;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('SERVICE', 'ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Catalog change feed", description = "Returns product changes after the given catalog version, oldest first. Consumers keep the returned catalogVersion and poll again; resyncRequired means changes were missed and cached products must be dropped.")
+    public ResponseEntity<ApiResponse> getChanges(@RequestParam(required = false) Long sinceVersion,
+            @RequestParam(defaultValue = "500") int limit) {
+        CatalogChangeFeedResponse changes = changeFeed.getChanges(sinceVersion, Math.min(limit, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message("Catalog changes retrieved successfully")
+                .data(changes)
+                .build());
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('SERVICE', 'ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Stream catalog changes", description = "Server-Sent Events stream of catalog changes. Each event id is a catalog version; reconnect with Last-Event-ID or sinceVersion to resume.")
+    public SseEmitter streamChanges(@RequestParam(required = false) Long sinceVersion,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeed.subscribe(lastEventId != null ? lastEventId : sinceVersion);
+    }
+}
@@ -1,6 +1,8 @@
 package com.bt.product.controller;
 
 import com.bt.product.dto.ApiResponse;
+import com.bt.product.dto.PricingQuoteBatchRequest;
+import com.bt.product.dto.PricingQuoteResponse;
 import com.bt.product.dto.PricingRuleRequest;
 import com.bt.product.dto.PricingRuleResponse;
 import com.bt.product.service.PricingRuleService;
@@ -99,6 +101,18 @@ public class PricingRuleController {
                 .build());
     }
 
+    @PostMapping("/quote/batch")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Batch pricing quote", description = "Evaluates applicable pricing rules and the resulting rate, fee and discount for many product/amount pairs")
+    public ResponseEntity<ApiResponse> quoteBatch(@Valid @RequestBody PricingQuoteBatchRequest request) {
+        List<PricingQuoteResponse> responses = pricingRuleService.quoteBatch(request.getQuotes());
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message("Pricing quotes calculated successfully")
+                .data(responses)
+                .build());
+    }
+
     @DeleteMapping("/{ruleId}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Delete pricing rule", description = "Deletes a pricing rule by ID (Admin only)")
@@ -7,10 +7,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 
 @RestController
@@ -20,6 +22,8 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class ProductController {
 
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
     private final ProductService productService;
 
     @PostMapping
@@ -47,12 +51,28 @@ public class ProductController {
                 .build());
     }
 
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
+    @Operation(summary = "Suggest products", description = "Search-as-you-type over product code, name and description")
+    public ResponseEntity<ApiResponse> suggestProducts(@RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProductResponse> responses = productService.suggestProducts(query, limit);
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message("Product suggestions retrieved successfully")
+                .data(responses)
+                .build());
+    }
+
     @GetMapping("/{code}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
     @Operation(summary = "Get product by code", description = "Retrieves product details by product code")
-    public ResponseEntity<ApiResponse> getProductByCode(@PathVariable String code) {
+    public ResponseEntity<ApiResponse> getProductByCode(@PathVariable String code, WebRequest webRequest) {
+        if (webRequest.checkNotModified(productService.getProductTag(code))) {
+            return null;
+        }
         ProductResponse response = productService.getProductByCode(code);
-        return ResponseEntity.ok(ApiResponse.builder()
+        return revalidated().body(ApiResponse.builder()
                 .success(true)
                 .message("Product retrieved successfully")
                 .data(response)
@@ -62,9 +82,12 @@ public class ProductController {
     @GetMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
     @Operation(summary = "Get all products", description = "Retrieves all available banking products")
-    public ResponseEntity<ApiResponse> getAllProducts() {
+    public ResponseEntity<ApiResponse> getAllProducts(WebRequest webRequest) {
+        if (webRequest.checkNotModified(productService.getCatalogTag())) {
+            return null;
+        }
         List<ProductResponse> responses = productService.getAllProducts();
-        return ResponseEntity.ok(ApiResponse.builder()
+        return revalidated().body(ApiResponse.builder()
                 .success(true)
                 .message("Products retrieved successfully")
                 .data(responses)
@@ -73,22 +96,25 @@ public class ProductController {
 
     @PostMapping("/search")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
-    @Operation(summary = "Search products", description = "Searches products by type, currency, status, and dates")
+    @Operation(summary = "Search products", description = "Searches products by type, currency, status, dates, and code or name prefix, one keyset page at a time")
     public ResponseEntity<ApiResponse> searchProducts(@RequestBody ProductSearchRequest searchRequest) {
-        List<ProductResponse> responses = productService.searchProducts(searchRequest);
+        ProductSearchResponse response = productService.searchProducts(searchRequest);
         return ResponseEntity.ok(ApiResponse.builder()
                 .success(true)
                 .message("Search completed successfully")
-                .data(responses)
+                .data(response)
                 .build());
     }
 
     @GetMapping("/status/{code}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'BANKOFFICER')")
     @Operation(summary = "Get product status", description = "Retrieves product status, validity, and applicable pricing rules")
-    public ResponseEntity<ApiResponse> getProductStatus(@PathVariable String code) {
+    public ResponseEntity<ApiResponse> getProductStatus(@PathVariable String code, WebRequest webRequest) {
+        if (webRequest.checkNotModified(productService.getProductStatusTag(code))) {
+            return null;
+        }
         ProductStatusResponse response = productService.getProductStatus(code);
-        return ResponseEntity.ok(ApiResponse.builder()
+        return revalidated().body(ApiResponse.builder()
                 .success(true)
                 .message("Product status retrieved successfully")
                 .data(response)
@@ -105,4 +131,10 @@ public class ProductController {
                 .message("Product deleted successfully")
                 .build());
     }
+
+    private ResponseEntity.BodyBuilder revalidated() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(CATALOG_VERSION_HEADER, String.valueOf(productService.getCatalogVersion()));
+    }
 }
@@ -0,0 +1,32 @@
+package com.bt.product.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogChangeFeedResponse {
+
+    private String feedId;
+    private List<Change> changes;
+    private Long catalogVersion;
+    private Long oldestVersion;
+    private boolean resyncRequired;
+    private boolean hasMore;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Change {
+
+        private Long version;
+        private String changeType;
+        private String productCode;
+        private Long productId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.bt.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingQuoteBatchRequest {
+
+    @NotEmpty(message = "At least one quote is required")
+    @Size(max = 1000, message = "A batch cannot contain more than 1000 quotes")
+    private List<@Valid @NotNull PricingQuoteRequest> quotes;
+}
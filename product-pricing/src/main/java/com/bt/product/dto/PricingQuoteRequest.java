@@ -0,0 +1,21 @@
+package com.bt.product.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingQuoteRequest {
+
+    @NotNull(message = "Product ID is required")
+    private Long productId;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", message = "Amount must be non-negative")
+    private BigDecimal amount;
+}
@@ -0,0 +1,23 @@
+package com.bt.product.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingQuoteResponse {
+
+    private Long productId;
+    private String productCode;
+    private BigDecimal amount;
+    private Long appliedRuleId;
+    private BigDecimal interestRate;
+    private BigDecimal feeAmount;
+    private BigDecimal discountPercentage;
+    private List<PricingRuleResponse> applicableRules;
+    private String error;
+}
@@ -1,5 +1,7 @@
 package com.bt.product.dto;
 
+import com.bt.web.SparseFieldsetAdvice;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.bt.product.entity.Currency;
 import com.bt.product.entity.ProductStatus;
 import com.bt.product.entity.ProductType;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonFilter(SparseFieldsetAdvice.FILTER_ID)
 public class ProductResponse {
 
     private Long id;
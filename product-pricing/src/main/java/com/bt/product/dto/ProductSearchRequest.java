@@ -4,6 +4,7 @@ import com.bt.product.entity.Currency;
 import com.bt.product.entity.ProductStatus;
 import com.bt.product.entity.ProductType;
 import lombok.*;
+import org.springframework.data.domain.Sort;
 import java.time.LocalDate;
 
 @Getter
@@ -20,4 +21,19 @@ public class ProductSearchRequest {
     private LocalDate expiryDate;
     private String productCode;
     private String productName;
+    private SortField sortBy;
+    private Sort.Direction sortDirection;
+    private Integer pageSize;
+    private String cursor;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum SortField {
+        ID("id"),
+        PRODUCT_CODE("productCode"),
+        PRODUCT_NAME("productName"),
+        EFFECTIVE_DATE("effectiveDate");
+
+        private final String attribute;
+    }
 }
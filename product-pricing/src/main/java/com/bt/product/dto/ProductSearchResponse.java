@@ -0,0 +1,16 @@
+package com.bt.product.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchResponse {
+
+    private List<ProductResponse> products;
+    private String nextCursor;
+    private boolean hasMore;
+}
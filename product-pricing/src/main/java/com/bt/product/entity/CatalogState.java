@@ -0,0 +1,32 @@
+package com.bt.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "catalog_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "feed_id", nullable = false, length = 36)
+    private String feedId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "purged_through", nullable = false)
+    private Long purgedThrough;
+
+    @Column(name = "valid_on")
+    private LocalDate validOn;
+}
@@ -9,8 +9,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "products", indexes = {
         @Index(name = "idx_product_code", columnList = "product_code", unique = true),
-        @Index(name = "idx_product_type", columnList = "product_type"),
-        @Index(name = "idx_status", columnList = "status")
+        @Index(name = "idx_status_type", columnList = "status, product_type"),
+        @Index(name = "idx_status_currency", columnList = "status, currency"),
+        @Index(name = "idx_product_type_currency", columnList = "product_type, currency"),
+        @Index(name = "idx_product_name", columnList = "product_name"),
+        @Index(name = "idx_effective_date", columnList = "effective_date")
 })
 @Getter
 @Setter
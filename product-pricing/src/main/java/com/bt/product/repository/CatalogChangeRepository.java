@@ -0,0 +1,27 @@
+package com.bt.product.repository;
+
+import com.bt.product.entity.CatalogChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    List<CatalogChange> findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAscIdAsc(Long sinceVersion,
+            Long upToVersion, Pageable pageable);
+
+    List<CatalogChange> findByVersionOrderByIdAsc(Long version);
+
+    @Query("SELECT max(c.version) FROM CatalogChange c WHERE c.occurredAt < :cutoff")
+    Long findLatestVersionBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM CatalogChange c WHERE c.version <= :version")
+    int deleteThroughVersion(@Param("version") Long version);
+}
@@ -0,0 +1,21 @@
+package com.bt.product.repository;
+
+import com.bt.product.entity.CatalogState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface CatalogStateRepository extends JpaRepository<CatalogState, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CatalogState s WHERE s.id = :id")
+    Optional<CatalogState> findForUpdate(@Param("id") Long id);
+
+    @Query("SELECT s.version FROM CatalogState s WHERE s.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+}
@@ -1,35 +1,40 @@
 package com.bt.product.repository;
 
+import com.bt.product.dto.PricingRuleResponse;
 import com.bt.product.entity.PricingRule;
 import com.bt.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
 
+    String RESPONSE_PROJECTION = "SELECT new com.bt.product.dto.PricingRuleResponse(pr.id, p.id, p.productCode, " +
+            "pr.ruleName, pr.ruleDescription, pr.minThreshold, pr.maxThreshold, pr.interestRate, pr.feeAmount, " +
+            "pr.discountPercentage, pr.priorityOrder, pr.isActive, pr.createdAt, pr.updatedAt) " +
+            "FROM PricingRule pr JOIN pr.product p ";
+
     List<PricingRule> findByProduct(Product product);
 
     List<PricingRule> findByProductId(Long productId);
 
     List<PricingRule> findByIsActiveTrue();
 
-    @Query("SELECT pr FROM PricingRule pr WHERE pr.product.id = :productId AND pr.isActive = true ORDER BY pr.priorityOrder ASC")
-    List<PricingRule> findActiveRulesByProductIdOrderByPriority(@Param("productId") Long productId);
+    @Query("SELECT pr FROM PricingRule pr JOIN FETCH pr.product WHERE pr.isActive = true")
+    List<PricingRule> findActiveRulesWithProduct();
+
+    long countByProductId(Long productId);
 
-    @Query("SELECT pr FROM PricingRule pr WHERE pr.product.id = :productId AND pr.isActive = true AND " +
-            "(pr.minThreshold IS NULL OR pr.minThreshold <= :amount) AND " +
-            "(pr.maxThreshold IS NULL OR pr.maxThreshold >= :amount) " +
-            "ORDER BY pr.priorityOrder ASC")
-    List<PricingRule> findApplicableRulesByAmount(@Param("productId") Long productId,
-            @Param("amount") BigDecimal amount);
+    @Query("SELECT pr FROM PricingRule pr JOIN FETCH pr.product WHERE pr.id = :ruleId")
+    Optional<PricingRule> findWithProductById(@Param("ruleId") Long ruleId);
 
-    @Query("SELECT pr FROM PricingRule pr WHERE pr.product.productCode = :productCode AND pr.isActive = true ORDER BY pr.priorityOrder ASC")
-    List<PricingRule> findActiveRulesByProductCode(@Param("productCode") String productCode);
+    @Query(RESPONSE_PROJECTION + "WHERE p.id = :productId ORDER BY pr.id ASC")
+    List<PricingRuleResponse> findResponsesByProductId(@Param("productId") Long productId);
 
-    long countByProductId(Long productId);
+    @Query(RESPONSE_PROJECTION + "WHERE pr.id = :ruleId")
+    Optional<PricingRuleResponse> findResponseById(@Param("ruleId") Long ruleId);
 }
@@ -0,0 +1,81 @@
+package com.bt.product.repository;
+
+import com.bt.product.dto.ProductSearchRequest;
+import com.bt.product.entity.Product;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    // Only supplied filters become predicates, so the optimizer sees plain equality and range conditions.
+    public static Specification<Product> matching(ProductSearchRequest request) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (request.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), request.getStatus()));
+            }
+            if (request.getProductType() != null) {
+                predicates.add(cb.equal(root.get("productType"), request.getProductType()));
+            }
+            if (request.getCurrency() != null) {
+                predicates.add(cb.equal(root.get("currency"), request.getCurrency()));
+            }
+            if (StringUtils.hasText(request.getProductCode())) {
+                predicates.add(cb.like(root.get("productCode"), prefixPattern(request.getProductCode()), LIKE_ESCAPE));
+            }
+            if (StringUtils.hasText(request.getProductName())) {
+                predicates.add(cb.like(root.get("productName"), prefixPattern(request.getProductName()), LIKE_ESCAPE));
+            }
+            if (request.getEffectiveDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("effectiveDate"), request.getEffectiveDate()));
+            }
+            if (request.getExpiryDate() != null) {
+                predicates.add(cb.or(cb.isNull(root.get("expiryDate")),
+                        cb.greaterThanOrEqualTo(root.get("expiryDate"), request.getExpiryDate())));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Keyset condition written as "key >= v AND (key > v OR id beyond)" so the leading term is an index range.
+    public static <T extends Comparable<? super T>> Specification<Product> after(String attribute,
+            Sort.Direction direction, T value, Long id) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idBeyond = direction.isAscending() ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if ("id".equals(attribute)) {
+                return idBeyond;
+            }
+            Path<T> path = root.get(attribute);
+            if (direction.isAscending()) {
+                return cb.and(cb.greaterThanOrEqualTo(path, value),
+                        cb.or(cb.greaterThan(path, value), cb.and(cb.equal(path, value), idBeyond)));
+            }
+            return cb.and(cb.lessThanOrEqualTo(path, value),
+                    cb.or(cb.lessThan(path, value), cb.and(cb.equal(path, value), idBeyond)));
+        };
+    }
+
+    private static String prefixPattern(String prefix) {
+        String trimmed = prefix.trim();
+        StringBuilder pattern = new StringBuilder(trimmed.length() + 1);
+        for (char c : trimmed.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,203 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.CatalogChangeFeedResponse;
+import com.bt.product.entity.CatalogChange;
+import com.bt.product.entity.CatalogState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogChangeFeed {
+
+    public static final String EVENT_NAME = "catalog-changes";
+
+    private final ProductCatalog productCatalog;
+    private final CatalogChangeLog catalogChangeLog;
+
+    @Value("${app.catalog.changes.stream-timeout-ms:1800000}")
+    private long streamTimeoutMillis = 1_800_000;
+
+    private final Map<SseEmitter, Subscription> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-change-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener
+    public void onCatalogChanged(ProductCatalogChangedEvent event) {
+        if (subscribers.isEmpty() || event.catalogVersion() <= event.previousVersion()) {
+            return;
+        }
+        List<Subscription> targets = List.copyOf(subscribers.values());
+        dispatcher.execute(() -> {
+            CatalogState state = catalogChangeLog.state();
+            CatalogChangeFeedResponse live = read(state, event.previousVersion(), event.catalogVersion(),
+                    Integer.MAX_VALUE);
+            targets.forEach(subscription -> deliver(subscription, state, event.catalogVersion(),
+                    event.previousVersion(), live));
+        });
+    }
+
+    public CatalogChangeFeedResponse getChanges(Long sinceVersion, int limit) {
+        long catalogVersion = productCatalog.catchUp().version();
+        return read(catalogChangeLog.state(), sinceVersion, catalogVersion, limit);
+    }
+
+    // Registers before reading the backlog, so a version published meanwhile is queued for this subscriber too.
+    public SseEmitter subscribe(Long sinceVersion) {
+        SseEmitter emitter = newEmitter();
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(emitter));
+        Subscription subscription = new Subscription(emitter, sinceVersion);
+        subscribers.put(emitter, subscription);
+        long catalogVersion = productCatalog.catchUp().version();
+        dispatcher.execute(() -> deliver(subscription, catalogChangeLog.state(), catalogVersion, null, null));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog.changes.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<SseEmitter> targets = List.copyOf(subscribers.keySet());
+        dispatcher.execute(() -> targets.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+            }
+        }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    // Versions and feedId come from the database, so a consumer can poll any instance of the service.
+    private CatalogChangeFeedResponse read(CatalogState state, Long sinceVersion, long catalogVersion, int limit) {
+        if (sinceVersion == null || sinceVersion < state.getPurgedThrough() || sinceVersion > catalogVersion) {
+            return feed(state, List.of(), catalogVersion, true, false);
+        }
+
+        int pageSize = Math.max(limit, 1);
+        List<CatalogChange> page = new ArrayList<>(catalogChangeLog.changesBetween(sinceVersion, catalogVersion,
+                pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1));
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            // Never split a version across pages: the next poll resumes after the last version returned.
+            long lastVersion = page.get(pageSize - 1).getVersion();
+            boolean split = page.get(pageSize).getVersion() == lastVersion;
+            page.subList(pageSize, page.size()).clear();
+            if (split) {
+                page.removeIf(change -> change.getVersion() == lastVersion);
+                page.addAll(catalogChangeLog.changesAt(lastVersion));
+            }
+            hasMore = lastVersion < catalogVersion;
+        }
+        long nextVersion = hasMore ? page.get(page.size() - 1).getVersion() : catalogVersion;
+        List<CatalogChangeFeedResponse.Change> changes = page.stream()
+                .map(change -> CatalogChangeFeedResponse.Change.builder()
+                        .version(change.getVersion())
+                        .changeType(change.getChangeType().name())
+                        .productCode(change.getProductCode())
+                        .productId(change.getProductId())
+                        .build())
+                .toList();
+        return feed(state, changes, nextVersion, false, hasMore);
+    }
+
+    private CatalogChangeFeedResponse feed(CatalogState state, List<CatalogChangeFeedResponse.Change> page,
+            long catalogVersion, boolean resyncRequired, boolean hasMore) {
+        return CatalogChangeFeedResponse.builder()
+                .feedId(state.getFeedId())
+                .changes(page)
+                .catalogVersion(catalogVersion)
+                .oldestVersion(state.getPurgedThrough())
+                .resyncRequired(resyncRequired)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(streamTimeoutMillis);
+    }
+
+    // Runs only on the dispatcher thread: the backlog and live versions reach each subscriber in order, once.
+    private void deliver(Subscription subscription, CatalogState state, long catalogVersion, Long liveFrom,
+            CatalogChangeFeedResponse live) {
+        if (subscription.opened && subscription.sentThrough >= catalogVersion) {
+            return;
+        }
+        CatalogChangeFeedResponse feed;
+        if (subscription.opened && live != null && liveFrom.equals(subscription.sentThrough)) {
+            feed = live;
+        } else {
+            try {
+                feed = read(state, subscription.sentThrough, catalogVersion, Integer.MAX_VALUE);
+            } catch (RuntimeException e) {
+                // The client reconnects with Last-Event-ID and resumes from what it already has.
+                log.warn("Could not read catalog changes for a subscriber: {}", e.getMessage());
+                subscribers.remove(subscription.emitter);
+                subscription.emitter.complete();
+                return;
+            }
+        }
+        if (send(subscription.emitter, feed)) {
+            subscription.sentThrough = feed.getCatalogVersion();
+            subscription.opened = true;
+        }
+    }
+
+    private boolean send(SseEmitter emitter, CatalogChangeFeedResponse feed) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(feed.getCatalogVersion()))
+                    .name(EVENT_NAME)
+                    .data(feed, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping catalog change subscriber: {}", e.getMessage());
+            subscribers.remove(emitter);
+            return false;
+        }
+    }
+
+    private static final class Subscription {
+
+        private final SseEmitter emitter;
+        private Long sentThrough;
+        private boolean opened;
+
+        private Subscription(SseEmitter emitter, Long sinceVersion) {
+            this.emitter = emitter;
+            this.sentThrough = sinceVersion;
+        }
+    }
+}
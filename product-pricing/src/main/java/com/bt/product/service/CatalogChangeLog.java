@@ -0,0 +1,143 @@
+package com.bt.product.service;
+
+import com.bt.product.entity.CatalogChange;
+import com.bt.product.entity.CatalogState;
+import com.bt.product.repository.CatalogChangeRepository;
+import com.bt.product.repository.CatalogStateRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogChangeLog {
+
+    private final CatalogStateRepository stateRepository;
+    private final CatalogChangeRepository changeRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    @Value("${app.catalog.changes.retention-days:7}")
+    private int retentionDays = 7;
+
+    // The state row lock serializes writers, so versions become visible in order on every instance.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(CatalogChange.ChangeType changeType, String productCode, Long productId) {
+        CatalogState state = lockState();
+        state.setVersion(state.getVersion() + 1);
+        changeRepository.save(change(state.getVersion(), changeType, productCode, productId));
+        return state.getVersion();
+    }
+
+    public long recordValidity(LocalDate validOn, Map<String, Long> productIds) {
+        return newTransaction(false).execute(status -> {
+            CatalogState state = lockState();
+            if (state.getValidOn() != null && !state.getValidOn().isBefore(validOn)) {
+                return state.getVersion();
+            }
+            state.setValidOn(validOn);
+            if (!productIds.isEmpty()) {
+                state.setVersion(state.getVersion() + 1);
+                new TreeMap<>(productIds).forEach((code, id) -> changeRepository
+                        .save(change(state.getVersion(), CatalogChange.ChangeType.VALIDITY_CHANGED, code, id)));
+            }
+            return state.getVersion();
+        });
+    }
+
+    public long currentVersion() {
+        return stateRepository.findVersion(CatalogState.SINGLETON_ID).orElse(0L);
+    }
+
+    public CatalogState state() {
+        return stateRepository.findById(CatalogState.SINGLETON_ID).orElseGet(this::createState);
+    }
+
+    public List<CatalogChange> changesBetween(long sinceVersion, long upToVersion, int limit) {
+        return changeRepository.findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAscIdAsc(sinceVersion,
+                upToVersion, PageRequest.of(0, limit));
+    }
+
+    public List<CatalogChange> changesAt(long version) {
+        return changeRepository.findByVersionOrderByIdAsc(version);
+    }
+
+    @Scheduled(cron = "${app.catalog.changes.purge-cron:0 30 2 * * *}")
+    public void purge() {
+        newTransaction(false).executeWithoutResult(status -> {
+            Long purgeThrough = changeRepository.findLatestVersionBefore(
+                    LocalDateTime.now().minusDays(retentionDays));
+            if (purgeThrough == null) {
+                return;
+            }
+            CatalogState state = lockState();
+            if (purgeThrough > state.getPurgedThrough()) {
+                int purged = changeRepository.deleteThroughVersion(purgeThrough);
+                state.setPurgedThrough(purgeThrough);
+                log.info("Purged {} catalog changes through version {}", purged, purgeThrough);
+            }
+        });
+    }
+
+    private CatalogState lockState() {
+        return stateRepository.findForUpdate(CatalogState.SINGLETON_ID).orElseGet(() -> {
+            createState();
+            return stateRepository.findForUpdate(CatalogState.SINGLETON_ID).orElseThrow();
+        });
+    }
+
+    private CatalogState createState() {
+        try {
+            return newTransaction(false).execute(status -> {
+                CatalogState state = CatalogState.builder()
+                        .id(CatalogState.SINGLETON_ID)
+                        .feedId(UUID.randomUUID().toString())
+                        .version(0L)
+                        .purgedThrough(0L)
+                        .build();
+                entityManager.persist(state);
+                entityManager.flush();
+                return state;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Catalog state was created concurrently: {}", e.getMessage());
+            return newTransaction(true).execute(status -> stateRepository
+                    .findById(CatalogState.SINGLETON_ID).orElseThrow());
+        }
+    }
+
+    private static CatalogChange change(long version, CatalogChange.ChangeType changeType, String productCode,
+            Long productId) {
+        return CatalogChange.builder()
+                .version(version)
+                .changeType(changeType)
+                .productCode(productCode)
+                .productId(productId)
+                .build();
+    }
+
+    private TransactionTemplate newTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
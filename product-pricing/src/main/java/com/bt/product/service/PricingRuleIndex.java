@@ -0,0 +1,83 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.PricingRuleResponse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public final class PricingRuleIndex {
+
+    private static final PricingRuleIndex EMPTY = compile(List.of());
+
+    private final List<PricingRuleResponse> rules;
+    private final BigDecimal[] breakpoints;
+    private final List<List<PricingRuleResponse>> slots;
+
+    private PricingRuleIndex(List<PricingRuleResponse> rules, BigDecimal[] breakpoints,
+            List<List<PricingRuleResponse>> slots) {
+        this.rules = rules;
+        this.breakpoints = breakpoints;
+        this.slots = slots;
+    }
+
+    public static PricingRuleIndex empty() {
+        return EMPTY;
+    }
+
+    public static PricingRuleIndex compile(List<PricingRuleResponse> rulesInPriorityOrder) {
+        TreeSet<BigDecimal> bounds = new TreeSet<>();
+        for (PricingRuleResponse rule : rulesInPriorityOrder) {
+            if (rule.getMinThreshold() != null) {
+                bounds.add(rule.getMinThreshold());
+            }
+            if (rule.getMaxThreshold() != null) {
+                bounds.add(rule.getMaxThreshold());
+            }
+        }
+        BigDecimal[] breakpoints = bounds.toArray(new BigDecimal[0]);
+
+        // Slot 2i is the open interval below breakpoint i, slot 2i + 1 is breakpoint i itself
+        // and the last slot is everything above the highest breakpoint.
+        Map<List<PricingRuleResponse>, List<PricingRuleResponse>> shared = new HashMap<>();
+        List<List<PricingRuleResponse>> slots = new ArrayList<>(2 * breakpoints.length + 1);
+        for (int slot = 0; slot <= 2 * breakpoints.length; slot++) {
+            List<PricingRuleResponse> matching = new ArrayList<>();
+            for (PricingRuleResponse rule : rulesInPriorityOrder) {
+                if (covers(rule, breakpoints, slot)) {
+                    matching.add(rule);
+                }
+            }
+            List<PricingRuleResponse> frozen = List.copyOf(matching);
+            slots.add(shared.computeIfAbsent(frozen, key -> key));
+        }
+        return new PricingRuleIndex(List.copyOf(rulesInPriorityOrder), breakpoints, List.copyOf(slots));
+    }
+
+    public List<PricingRuleResponse> rules() {
+        return rules;
+    }
+
+    public List<PricingRuleResponse> applicable(BigDecimal amount) {
+        int position = Arrays.binarySearch(breakpoints, amount);
+        return slots.get(position >= 0 ? 2 * position + 1 : 2 * (-position - 1));
+    }
+
+    private static boolean covers(PricingRuleResponse rule, BigDecimal[] breakpoints, int slot) {
+        int index = slot / 2;
+        boolean exact = slot % 2 == 1;
+        BigDecimal min = rule.getMinThreshold();
+        BigDecimal max = rule.getMaxThreshold();
+        if (exact) {
+            BigDecimal point = breakpoints[index];
+            return (min == null || min.compareTo(point) <= 0) && (max == null || max.compareTo(point) >= 0);
+        }
+        boolean aboveMin = min == null || (index > 0 && min.compareTo(breakpoints[index - 1]) <= 0);
+        boolean belowMax = max == null || (index < breakpoints.length && max.compareTo(breakpoints[index]) >= 0);
+        return aboveMin && belowMax;
+    }
+}
@@ -1,7 +1,11 @@
 package com.bt.product.service;
 
+import com.bt.product.dto.PricingQuoteRequest;
+import com.bt.product.dto.PricingQuoteResponse;
 import com.bt.product.dto.PricingRuleRequest;
 import com.bt.product.dto.PricingRuleResponse;
+import com.bt.product.dto.ProductResponse;
+import com.bt.product.entity.CatalogChange;
 import com.bt.product.entity.PricingRule;
 import com.bt.product.entity.Product;
 import com.bt.product.exception.InvalidProductDataException;
@@ -10,11 +14,12 @@ import com.bt.product.exception.ProductNotFoundException;
 import com.bt.product.repository.PricingRuleRepository;
 import com.bt.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,11 @@ public class PricingRuleService {
 
     private final PricingRuleRepository pricingRuleRepository;
     private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final CatalogChangeLog catalogChangeLog;
+
+    @Value("${app.pricing.quote.parallel-threshold:64}")
+    private int parallelQuoteThreshold = 64;
 
     @Transactional
     public PricingRuleResponse createPricingRule(PricingRuleRequest request) {
@@ -45,12 +55,14 @@ public class PricingRuleService {
                 .build();
 
         PricingRule savedRule = pricingRuleRepository.save(pricingRule);
-        return mapToPricingRuleResponse(savedRule);
+        recordPricingChange(product);
+        productCatalog.refreshAfterCommit();
+        return ProductMapper.toPricingRuleResponse(savedRule);
     }
 
     @Transactional
     public PricingRuleResponse updatePricingRule(Long ruleId, PricingRuleRequest request) {
-        PricingRule pricingRule = pricingRuleRepository.findById(ruleId)
+        PricingRule pricingRule = pricingRuleRepository.findWithProductById(ruleId)
                 .orElseThrow(() -> new PricingRuleNotFoundException("Pricing rule not found with id: " + ruleId));
 
         validatePricingRuleRequest(request);
@@ -66,31 +78,34 @@ public class PricingRuleService {
         pricingRule.setIsActive(request.getIsActive());
 
         PricingRule updatedRule = pricingRuleRepository.save(pricingRule);
-        return mapToPricingRuleResponse(updatedRule);
+        recordPricingChange(updatedRule.getProduct());
+        productCatalog.refreshAfterCommit();
+        return ProductMapper.toPricingRuleResponse(updatedRule);
     }
 
     public PricingRuleResponse getPricingRuleById(Long ruleId) {
-        PricingRule pricingRule = pricingRuleRepository.findById(ruleId)
+        return pricingRuleRepository.findResponseById(ruleId)
                 .orElseThrow(() -> new PricingRuleNotFoundException("Pricing rule not found with id: " + ruleId));
-        return mapToPricingRuleResponse(pricingRule);
     }
 
     public List<PricingRuleResponse> getPricingRulesByProductId(Long productId) {
-        return pricingRuleRepository.findByProductId(productId).stream()
-                .map(this::mapToPricingRuleResponse)
-                .collect(Collectors.toList());
+        return pricingRuleRepository.findResponsesByProductId(productId);
     }
 
     public List<PricingRuleResponse> getActivePricingRulesByProductId(Long productId) {
-        return pricingRuleRepository.findActiveRulesByProductIdOrderByPriority(productId).stream()
-                .map(this::mapToPricingRuleResponse)
-                .collect(Collectors.toList());
+        return productCatalog.current().activeRules(productId);
     }
 
     public List<PricingRuleResponse> getApplicableRulesForAmount(Long productId, BigDecimal amount) {
-        return pricingRuleRepository.findApplicableRulesByAmount(productId, amount).stream()
-                .map(this::mapToPricingRuleResponse)
-                .collect(Collectors.toList());
+        return productCatalog.current().applicableRules(productId, amount);
+    }
+
+    public List<PricingQuoteResponse> quoteBatch(List<PricingQuoteRequest> quotes) {
+        ProductCatalog.Snapshot catalog = productCatalog.current();
+        Stream<PricingQuoteRequest> stream = quotes.size() >= parallelQuoteThreshold
+                ? quotes.parallelStream()
+                : quotes.stream();
+        return stream.map(quote -> quote(catalog, quote)).toList();
     }
 
     @Transactional
@@ -98,6 +113,43 @@ public class PricingRuleService {
         PricingRule pricingRule = pricingRuleRepository.findById(ruleId)
                 .orElseThrow(() -> new PricingRuleNotFoundException("Pricing rule not found with id: " + ruleId));
         pricingRuleRepository.delete(pricingRule);
+        recordPricingChange(pricingRule.getProduct());
+        productCatalog.refreshAfterCommit();
+    }
+
+    private void recordPricingChange(Product product) {
+        catalogChangeLog.record(CatalogChange.ChangeType.PRICING_CHANGED, product.getProductCode(), product.getId());
+    }
+
+    private PricingQuoteResponse quote(ProductCatalog.Snapshot catalog, PricingQuoteRequest request) {
+        ProductResponse product = catalog.findProduct(request.getProductId()).orElse(null);
+        if (product == null) {
+            return PricingQuoteResponse.builder()
+                    .productId(request.getProductId())
+                    .amount(request.getAmount())
+                    .applicableRules(List.of())
+                    .error("Product not found with id: " + request.getProductId())
+                    .build();
+        }
+
+        List<PricingRuleResponse> rules = catalog.applicableRules(request.getProductId(), request.getAmount());
+        PricingRuleResponse applied = rules.isEmpty() ? null : rules.get(0);
+        return PricingQuoteResponse.builder()
+                .productId(product.getId())
+                .productCode(product.getProductCode())
+                .amount(request.getAmount())
+                .appliedRuleId(applied != null ? applied.getId() : null)
+                .interestRate(applied != null && applied.getInterestRate() != null
+                        ? applied.getInterestRate()
+                        : product.getMinInterestRate())
+                .feeAmount(applied != null && applied.getFeeAmount() != null
+                        ? applied.getFeeAmount()
+                        : BigDecimal.ZERO)
+                .discountPercentage(applied != null && applied.getDiscountPercentage() != null
+                        ? applied.getDiscountPercentage()
+                        : BigDecimal.ZERO)
+                .applicableRules(rules)
+                .build();
     }
 
     private void validatePricingRuleRequest(PricingRuleRequest request) {
@@ -107,23 +159,4 @@ public class PricingRuleService {
             }
         }
     }
-
-    private PricingRuleResponse mapToPricingRuleResponse(PricingRule rule) {
-        return PricingRuleResponse.builder()
-                .id(rule.getId())
-                .productId(rule.getProduct().getId())
-                .productCode(rule.getProduct().getProductCode())
-                .ruleName(rule.getRuleName())
-                .ruleDescription(rule.getRuleDescription())
-                .minThreshold(rule.getMinThreshold())
-                .maxThreshold(rule.getMaxThreshold())
-                .interestRate(rule.getInterestRate())
-                .feeAmount(rule.getFeeAmount())
-                .discountPercentage(rule.getDiscountPercentage())
-                .priorityOrder(rule.getPriorityOrder())
-                .isActive(rule.getIsActive())
-                .createdAt(rule.getCreatedAt())
-                .updatedAt(rule.getUpdatedAt())
-                .build();
-    }
 }
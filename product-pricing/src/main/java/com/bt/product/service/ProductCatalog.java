@@ -0,0 +1,346 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.PricingRuleResponse;
+import com.bt.product.dto.ProductResponse;
+import com.bt.product.entity.PricingRule;
+import com.bt.product.entity.Product;
+import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalog {
+
+    private static final Comparator<PricingRule> BY_PRIORITY = Comparator.comparing(PricingRule::getPriorityOrder,
+            Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ProductRepository productRepository;
+    private final PricingRuleRepository pricingRuleRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductSearchIndex searchIndex;
+    private final CatalogChangeLog catalogChangeLog;
+
+    private final AtomicLong refreshRequests = new AtomicLong();
+    private volatile Snapshot current;
+    private long builtFromRequest = -1;
+    private ScheduledFuture<?> nextTransition;
+    private Clock clock = Clock.systemDefaultZone();
+
+    public Snapshot current() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            rebuild();
+            snapshot = current;
+        } else if (snapshot.validOn().isBefore(LocalDate.now(clock))) {
+            advanceValidity();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    public Snapshot catchUp() {
+        Snapshot snapshot = current();
+        if (catalogChangeLog.currentVersion() > snapshot.version()) {
+            reload();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        // Counted only after commit, so a rebuild that started earlier cannot claim this write.
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProductCatalog.this);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.catalog.refresh-interval-ms:60000}",
+            initialDelayString = "${app.catalog.refresh-interval-ms:60000}")
+    public void reload() {
+        refreshRequests.incrementAndGet();
+        rebuild();
+    }
+
+    // Picks up changes committed through other instances of the service.
+    @Scheduled(fixedDelayString = "${app.catalog.version-poll-ms:1000}",
+            initialDelayString = "${app.catalog.version-poll-ms:1000}")
+    public void pollVersion() {
+        Snapshot snapshot = current;
+        if (snapshot != null && catalogChangeLog.currentVersion() > snapshot.version()) {
+            reload();
+        }
+    }
+
+    synchronized void rebuild() {
+        long requested = refreshRequests.get();
+        if (current != null && builtFromRequest >= requested) {
+            return;
+        }
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Snapshot next = template.execute(status -> load());
+
+        searchIndex.sync(next.products());
+        publish(next);
+        builtFromRequest = requested;
+        log.debug("Product catalog snapshot v{} built with {} products", next.version(), next.products().size());
+    }
+
+    synchronized void advanceValidity() {
+        Snapshot snapshot = current;
+        LocalDate today = LocalDate.now(clock);
+        if (snapshot == null || !snapshot.validOn().isBefore(today)) {
+            return;
+        }
+        Snapshot revalidated = snapshot.revalidate(today, snapshot.version());
+
+        Map<String, Long> changed = new HashMap<>();
+        for (ProductResponse product : revalidated.products()) {
+            String productCode = product.getProductCode();
+            if (snapshot.isValid(productCode) != revalidated.isValid(productCode)) {
+                changed.put(productCode, product.getId());
+            }
+        }
+        long version = catalogChangeLog.recordValidity(today, changed);
+        if (version != snapshot.version() + (changed.isEmpty() ? 0 : 1)) {
+            // Another instance or writer moved the catalog on first; load its state instead.
+            reload();
+            return;
+        }
+        Snapshot next = snapshot.revalidate(today, version);
+        publish(next);
+        if (!changed.isEmpty()) {
+            log.info("Product validity changed on {} for {}", today, changed.keySet());
+        }
+    }
+
+    @PreDestroy
+    synchronized void cancelTransitions() {
+        if (nextTransition != null) {
+            nextTransition.cancel(false);
+        }
+    }
+
+    private void publish(Snapshot next) {
+        Snapshot previous = current;
+        current = next;
+        cancelTransitions();
+        nextTransition = next.nextTransition()
+                .map(date -> taskScheduler.schedule(this::advanceValidity,
+                        date.atStartOfDay(clock.getZone()).toInstant()))
+                .orElse(null);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(previous == null ? next.version()
+                : previous.version(), next.version()));
+    }
+
+    private Snapshot load() {
+        // Read the version first: the rows loaded after it are at least that new.
+        long version = catalogChangeLog.currentVersion();
+        List<ProductResponse> products = productRepository.findAll().stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .map(ProductMapper::toProductResponse)
+                .toList();
+
+        Map<String, List<PricingRuleResponse>> rulesByCode = new HashMap<>();
+        pricingRuleRepository.findActiveRulesWithProduct().stream()
+                .sorted(BY_PRIORITY)
+                .forEach(rule -> rulesByCode
+                        .computeIfAbsent(rule.getProduct().getProductCode(), code -> new ArrayList<>())
+                        .add(ProductMapper.toPricingRuleResponse(rule)));
+
+        return Snapshot.build(version, LocalDate.now(clock), products, rulesByCode);
+    }
+
+    public record Snapshot(
+            long version,
+            Instant builtAt,
+            LocalDate validOn,
+            List<ProductResponse> products,
+            Map<String, ProductResponse> productsByCode,
+            Map<Long, String> codesById,
+            Map<String, PricingRuleIndex> ruleIndexByCode,
+            Set<String> validCodes,
+            NavigableMap<LocalDate, Set<String>> transitions,
+            String catalogTag,
+            Map<String, String> productTags,
+            Map<String, String> statusTags) {
+
+        public static Snapshot build(long version, LocalDate validOn, List<ProductResponse> products,
+                Map<String, List<PricingRuleResponse>> activeRulesByCode) {
+            Map<String, ProductResponse> byCode = new HashMap<>();
+            Map<Long, String> codesById = new HashMap<>();
+            Map<String, String> productTags = new HashMap<>();
+            long lastModified = 0;
+            long digest = products.size();
+            for (ProductResponse product : products) {
+                byCode.put(product.getProductCode(), product);
+                codesById.put(product.getId(), product.getProductCode());
+                long modified = epochMillis(product.getUpdatedAt());
+                productTags.put(product.getProductCode(), "p" + product.getId() + "-" + Long.toHexString(modified));
+                lastModified = Math.max(lastModified, modified);
+                digest = 31 * digest + mix(product.getId(), modified);
+            }
+            Map<String, PricingRuleIndex> ruleIndexes = new HashMap<>();
+            activeRulesByCode.forEach((code, rules) -> ruleIndexes.put(code, PricingRuleIndex.compile(rules)));
+            String catalogTag = "c" + products.size() + "-" + Long.toHexString(lastModified) + "-"
+                    + Long.toHexString(digest);
+
+            return withValidity(version, Instant.now(), validOn, List.copyOf(products), Map.copyOf(byCode),
+                    Map.copyOf(codesById), Map.copyOf(ruleIndexes), catalogTag, Map.copyOf(productTags));
+        }
+
+        Snapshot revalidate(LocalDate date, long nextVersion) {
+            return withValidity(nextVersion, Instant.now(), date, products, productsByCode, codesById,
+                    ruleIndexByCode, catalogTag, productTags);
+        }
+
+        private static Snapshot withValidity(long version, Instant builtAt, LocalDate validOn,
+                List<ProductResponse> products, Map<String, ProductResponse> productsByCode,
+                Map<Long, String> codesById, Map<String, PricingRuleIndex> ruleIndexByCode, String catalogTag,
+                Map<String, String> productTags) {
+            Set<String> validCodes = new HashSet<>();
+            TreeMap<LocalDate, Set<String>> transitions = new TreeMap<>();
+            for (ProductResponse product : products) {
+                LocalDate effective = product.getEffectiveDate();
+                LocalDate expiry = product.getExpiryDate();
+                boolean started = effective == null || !effective.isAfter(validOn);
+                boolean ended = expiry != null && expiry.isBefore(validOn);
+                if (started && !ended) {
+                    validCodes.add(product.getProductCode());
+                }
+                if (!started) {
+                    transitions.computeIfAbsent(effective, date -> new HashSet<>()).add(product.getProductCode());
+                }
+                if (expiry != null && !ended) {
+                    transitions.computeIfAbsent(expiry.plusDays(1), date -> new HashSet<>())
+                            .add(product.getProductCode());
+                }
+            }
+
+            // Status responses also carry validity and the active rules, so their tag covers both.
+            Map<String, String> statusTags = new HashMap<>();
+            productTags.forEach((code, tag) -> {
+                long rulesDigest = 0;
+                PricingRuleIndex index = ruleIndexByCode.get(code);
+                if (index != null) {
+                    for (PricingRuleResponse rule : index.rules()) {
+                        rulesDigest = 31 * rulesDigest + mix(rule.getId(), epochMillis(rule.getUpdatedAt()));
+                    }
+                }
+                statusTags.put(code, tag + "-" + (validCodes.contains(code) ? "v" : "i") + "-"
+                        + Long.toHexString(rulesDigest));
+            });
+
+            return new Snapshot(version, builtAt, validOn, products, productsByCode, codesById, ruleIndexByCode,
+                    Set.copyOf(validCodes), Collections.unmodifiableNavigableMap(transitions), catalogTag,
+                    productTags, Map.copyOf(statusTags));
+        }
+
+        private static long epochMillis(LocalDateTime timestamp) {
+            return timestamp == null ? 0 : timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+
+        private static long mix(Long id, long modified) {
+            long hash = (id == null ? 0 : id) * 0x9E3779B97F4A7C15L ^ modified;
+            return hash ^ (hash >>> 29);
+        }
+
+        public Optional<ProductResponse> findProduct(String productCode) {
+            return Optional.ofNullable(productsByCode.get(productCode));
+        }
+
+        public Optional<ProductResponse> findProduct(Long productId) {
+            String productCode = codesById.get(productId);
+            return productCode == null ? Optional.empty() : findProduct(productCode);
+        }
+
+        public Optional<String> productTag(String productCode) {
+            return Optional.ofNullable(productTags.get(productCode));
+        }
+
+        public Optional<String> statusTag(String productCode) {
+            return Optional.ofNullable(statusTags.get(productCode));
+        }
+
+        public boolean isValid(String productCode) {
+            return validCodes.contains(productCode);
+        }
+
+        public Optional<LocalDate> nextTransition() {
+            return transitions.isEmpty() ? Optional.empty() : Optional.of(transitions.firstKey());
+        }
+
+        public List<PricingRuleResponse> activeRules(String productCode) {
+            return ruleIndex(productCode).rules();
+        }
+
+        public List<PricingRuleResponse> activeRules(Long productId) {
+            return ruleIndex(codesById.get(productId)).rules();
+        }
+
+        public List<PricingRuleResponse> applicableRules(Long productId, BigDecimal amount) {
+            return ruleIndex(codesById.get(productId)).applicable(amount);
+        }
+
+        private PricingRuleIndex ruleIndex(String productCode) {
+            PricingRuleIndex index = productCode == null ? null : ruleIndexByCode.get(productCode);
+            return index == null ? PricingRuleIndex.empty() : index;
+        }
+    }
+}
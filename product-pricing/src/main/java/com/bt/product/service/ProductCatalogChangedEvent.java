@@ -0,0 +1,4 @@
+package com.bt.product.service;
+
+public record ProductCatalogChangedEvent(long previousVersion, long catalogVersion) {
+}
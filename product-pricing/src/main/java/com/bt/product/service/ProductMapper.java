@@ -0,0 +1,55 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.PricingRuleResponse;
+import com.bt.product.dto.ProductResponse;
+import com.bt.product.entity.PricingRule;
+import com.bt.product.entity.Product;
+
+final class ProductMapper {
+
+    private ProductMapper() {
+    }
+
+    static ProductResponse toProductResponse(Product product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .productCode(product.getProductCode())
+                .productName(product.getProductName())
+                .productType(product.getProductType())
+                .description(product.getDescription())
+                .minInterestRate(product.getMinInterestRate())
+                .maxInterestRate(product.getMaxInterestRate())
+                .minTermMonths(product.getMinTermMonths())
+                .maxTermMonths(product.getMaxTermMonths())
+                .minAmount(product.getMinAmount())
+                .maxAmount(product.getMaxAmount())
+                .currency(product.getCurrency())
+                .status(product.getStatus())
+                .effectiveDate(product.getEffectiveDate())
+                .expiryDate(product.getExpiryDate())
+                .regulatoryCode(product.getRegulatoryCode())
+                .requiresApproval(product.getRequiresApproval())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
+    static PricingRuleResponse toPricingRuleResponse(PricingRule rule) {
+        return PricingRuleResponse.builder()
+                .id(rule.getId())
+                .productId(rule.getProduct().getId())
+                .productCode(rule.getProduct().getProductCode())
+                .ruleName(rule.getRuleName())
+                .ruleDescription(rule.getRuleDescription())
+                .minThreshold(rule.getMinThreshold())
+                .maxThreshold(rule.getMaxThreshold())
+                .interestRate(rule.getInterestRate())
+                .feeAmount(rule.getFeeAmount())
+                .discountPercentage(rule.getDiscountPercentage())
+                .priorityOrder(rule.getPriorityOrder())
+                .isActive(rule.getIsActive())
+                .createdAt(rule.getCreatedAt())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.ProductSearchRequest;
+import com.bt.product.entity.Product;
+import com.bt.product.exception.InvalidProductDataException;
+import com.bt.product.repository.ProductSpecifications;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+record ProductSearchCursor(ProductSearchRequest.SortField sortField, Sort.Direction direction, Long id,
+        String value) {
+
+    static ProductSearchCursor after(Product product, ProductSearchRequest.SortField sortField,
+            Sort.Direction direction) {
+        String value = switch (sortField) {
+            case ID -> "";
+            case PRODUCT_CODE -> product.getProductCode();
+            case PRODUCT_NAME -> product.getProductName();
+            case EFFECTIVE_DATE -> product.getEffectiveDate().toString();
+        };
+        return new ProductSearchCursor(sortField, direction, product.getId(), value);
+    }
+
+    static ProductSearchCursor decode(String cursor, ProductSearchRequest.SortField sortField,
+            Sort.Direction direction) {
+        String[] parts;
+        Long id;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+            id = parts.length == 4 ? Long.valueOf(parts[2]) : null;
+            if (parts.length == 4 && sortField == ProductSearchRequest.SortField.EFFECTIVE_DATE) {
+                LocalDate.parse(parts[3]);
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidProductDataException("Invalid search cursor", e);
+        }
+        if (id == null || !sortField.name().equals(parts[0]) || !direction.name().equals(parts[1])) {
+            throw new InvalidProductDataException("Search cursor does not match the requested sort order");
+        }
+        return new ProductSearchCursor(sortField, direction, id, parts[3]);
+    }
+
+    String encode() {
+        String raw = sortField.name() + "|" + direction.name() + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Specification<Product> toSpecification() {
+        if (sortField == ProductSearchRequest.SortField.EFFECTIVE_DATE) {
+            return ProductSpecifications.after(sortField.getAttribute(), direction, LocalDate.parse(value), id);
+        }
+        return ProductSpecifications.after(sortField.getAttribute(), direction, value, id);
+    }
+}
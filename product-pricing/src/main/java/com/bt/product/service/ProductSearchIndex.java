@@ -0,0 +1,102 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.ProductResponse;
+import com.bt.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ProductSearchIndex {
+
+    private static final int PRIMARY_FIELD = 2;
+    private static final int DESCRIPTION_FIELD = 1;
+
+    @Value("${app.catalog.search.max-prefix-expansion:2000}")
+    private int maxPrefixExpansion = 2000;
+
+    private final SearchIndex index = new SearchIndex();
+    private final Map<Long, IndexedProduct> products = new ConcurrentHashMap<>();
+
+    public synchronized void sync(Collection<ProductResponse> catalog) {
+        Set<Long> live = new HashSet<>();
+        for (ProductResponse product : catalog) {
+            live.add(product.getId());
+            IndexedProduct previous = products.get(product.getId());
+            if (previous == null || !previous.sameText(product)) {
+                put(product);
+            }
+        }
+        for (Long id : List.copyOf(products.keySet())) {
+            if (!live.contains(id)) {
+                remove(id);
+            }
+        }
+    }
+
+    public synchronized void put(ProductResponse product) {
+        SearchIndex.Document document = new SearchIndex.Document();
+        addCode(product.getProductCode(), document);
+        addWords(product.getProductName(), PRIMARY_FIELD, document);
+        addWords(product.getDescription(), DESCRIPTION_FIELD, document);
+        index.put(product.getId(), document);
+        products.put(product.getId(), new IndexedProduct(product.getProductCode(), product.getProductName(),
+                product.getDescription()));
+    }
+
+    public synchronized void remove(Long id) {
+        products.remove(id);
+        index.remove(id);
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    public List<Long> search(String query, int limit) {
+        return index.search(splitWords(SearchIndex.normalize(query)), limit, maxPrefixExpansion);
+    }
+
+    private static void addCode(String code, SearchIndex.Document document) {
+        String normalized = SearchIndex.normalize(code);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        document.word(normalized, PRIMARY_FIELD);
+        for (String part : normalized.split("[_\\-./\\s]+")) {
+            document.token(part, PRIMARY_FIELD);
+        }
+    }
+
+    private static void addWords(String value, int weight, SearchIndex.Document document) {
+        for (String word : splitWords(SearchIndex.normalize(value))) {
+            document.word(word, weight);
+        }
+    }
+
+    private static List<String> splitWords(String normalized) {
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private record IndexedProduct(String code, String name, String description) {
+
+        boolean sameText(ProductResponse product) {
+            return Objects.equals(code, product.getProductCode())
+                    && Objects.equals(name, product.getProductName())
+                    && Objects.equals(description, product.getDescription());
+        }
+    }
+}
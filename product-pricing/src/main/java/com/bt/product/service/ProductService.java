@@ -1,31 +1,37 @@
 package com.bt.product.service;
 
 import com.bt.product.dto.*;
+import com.bt.product.entity.CatalogChange;
 import com.bt.product.entity.Product;
 import com.bt.product.entity.ProductStatus;
 import com.bt.product.exception.DuplicateProductException;
 import com.bt.product.exception.InvalidProductDataException;
 import com.bt.product.exception.ProductNotFoundException;
 import com.bt.product.repository.ProductRepository;
-import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductSpecifications;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDate;
+import org.springframework.util.StringUtils;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
-    private final PricingRuleRepository pricingRuleRepository;
+    private final ProductCatalog productCatalog;
+    private final CatalogChangeLog catalogChangeLog;
+    private final ProductSearchIndex searchIndex;
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public ProductResponse createProduct(ProductRequest request) {
         validateProductRequest(request);
 
@@ -53,11 +59,12 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
-        return mapToProductResponse(savedProduct);
+        catalogChangeLog.record(CatalogChange.ChangeType.CREATED, savedProduct.getProductCode(), savedProduct.getId());
+        productCatalog.refreshAfterCommit();
+        return ProductMapper.toProductResponse(savedProduct);
     }
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public ProductResponse updateProduct(String productCode, ProductRequest request) {
         Product product = productRepository.findByProductCode(productCode)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
@@ -81,48 +88,84 @@ public class ProductService {
         product.setRequiresApproval(request.getRequiresApproval());
 
         Product updatedProduct = productRepository.save(product);
-        return mapToProductResponse(updatedProduct);
+        catalogChangeLog.record(CatalogChange.ChangeType.UPDATED, updatedProduct.getProductCode(),
+                updatedProduct.getId());
+        productCatalog.refreshAfterCommit();
+        return ProductMapper.toProductResponse(updatedProduct);
     }
 
-    @Cacheable(value = "products", key = "#productCode")
     public ProductResponse getProductByCode(String productCode) {
-        Product product = productRepository.findByProductCode(productCode)
+        return productCatalog.current().findProduct(productCode)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
-        return mapToProductResponse(product);
     }
 
-    @Cacheable(value = "products")
     public List<ProductResponse> getAllProducts() {
-        return productRepository.findAll().stream()
-                .map(this::mapToProductResponse)
-                .collect(Collectors.toList());
+        return productCatalog.current().products();
+    }
+
+    public long getCatalogVersion() {
+        return productCatalog.current().version();
+    }
+
+    public String getCatalogTag() {
+        return productCatalog.current().catalogTag();
+    }
+
+    public String getProductTag(String productCode) {
+        return productCatalog.current().productTag(productCode)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
+    }
+
+    public String getProductStatusTag(String productCode) {
+        return productCatalog.current().statusTag(productCode)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
     }
 
-    public List<ProductResponse> searchProducts(ProductSearchRequest searchRequest) {
-        List<Product> products = productRepository.searchProducts(
-                searchRequest.getProductType(),
-                searchRequest.getCurrency(),
-                searchRequest.getStatus(),
-                searchRequest.getEffectiveDate(),
-                searchRequest.getExpiryDate());
-
-        return products.stream()
-                .map(this::mapToProductResponse)
-                .collect(Collectors.toList());
+    public List<ProductResponse> suggestProducts(String query, int limit) {
+        ProductCatalog.Snapshot catalog = productCatalog.current();
+        return searchIndex.search(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS)).stream()
+                .map(catalog::findProduct)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSearchResponse searchProducts(ProductSearchRequest searchRequest) {
+        ProductSearchRequest.SortField sortField = searchRequest.getSortBy() != null ? searchRequest.getSortBy()
+                : ProductSearchRequest.SortField.ID;
+        Sort.Direction direction = searchRequest.getSortDirection() != null ? searchRequest.getSortDirection()
+                : Sort.Direction.ASC;
+        int pageSize = searchRequest.getPageSize() == null ? DEFAULT_SEARCH_PAGE_SIZE
+                : Math.min(Math.max(searchRequest.getPageSize(), 1), MAX_SEARCH_PAGE_SIZE);
+
+        Specification<Product> specification = ProductSpecifications.matching(searchRequest);
+        if (StringUtils.hasText(searchRequest.getCursor())) {
+            specification = specification.and(
+                    ProductSearchCursor.decode(searchRequest.getCursor(), sortField, direction).toSpecification());
+        }
+        Sort sort = sortField == ProductSearchRequest.SortField.ID ? Sort.by(direction, "id")
+                : Sort.by(direction, sortField.getAttribute(), "id");
+
+        List<Product> rows = productRepository.searchProducts(specification, sort, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Product> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return ProductSearchResponse.builder()
+                .products(page.stream().map(ProductMapper::toProductResponse).toList())
+                .nextCursor(hasMore
+                        ? ProductSearchCursor.after(page.get(page.size() - 1), sortField, direction).encode()
+                        : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     public ProductStatusResponse getProductStatus(String productCode) {
-        Product product = productRepository.findByProductCode(productCode)
+        ProductCatalog.Snapshot catalog = productCatalog.current();
+        ProductResponse product = catalog.findProduct(productCode)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
 
-        boolean isValid = validateProductStatus(product);
+        boolean isValid = catalog.isValid(productCode);
         boolean isActive = product.getStatus() == ProductStatus.ACTIVE;
 
-        List<PricingRuleResponse> pricingRules = pricingRuleRepository.findActiveRulesByProductCode(productCode)
-                .stream()
-                .map(this::mapToPricingRuleResponse)
-                .collect(Collectors.toList());
-
         return ProductStatusResponse.builder()
                 .productCode(product.getProductCode())
                 .productName(product.getProductName())
@@ -132,18 +175,19 @@ public class ProductService {
                 .effectiveDate(product.getEffectiveDate())
                 .expiryDate(product.getExpiryDate())
                 .currentInterestRate(product.getMinInterestRate())
-                .applicablePricingRules(pricingRules)
+                .applicablePricingRules(catalog.activeRules(productCode))
                 .validationMessage(
                         isValid ? "Product is valid and operational" : "Product has expired or is not yet effective")
                 .build();
     }
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public void deleteProduct(String productCode) {
         Product product = productRepository.findByProductCode(productCode)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + productCode));
         productRepository.delete(product);
+        catalogChangeLog.record(CatalogChange.ChangeType.DELETED, product.getProductCode(), product.getId());
+        productCatalog.refreshAfterCommit();
     }
 
     private void validateProductRequest(ProductRequest request) {
@@ -172,53 +216,4 @@ public class ProductService {
             }
         }
     }
-
-    private boolean validateProductStatus(Product product) {
-        LocalDate today = LocalDate.now();
-        return product.getEffectiveDate().isBefore(today.plusDays(1)) &&
-                (product.getExpiryDate() == null || product.getExpiryDate().isAfter(today.minusDays(1)));
-    }
-
-    private ProductResponse mapToProductResponse(Product product) {
-        return ProductResponse.builder()
-                .id(product.getId())
-                .productCode(product.getProductCode())
-                .productName(product.getProductName())
-                .productType(product.getProductType())
-                .description(product.getDescription())
-                .minInterestRate(product.getMinInterestRate())
-                .maxInterestRate(product.getMaxInterestRate())
-                .minTermMonths(product.getMinTermMonths())
-                .maxTermMonths(product.getMaxTermMonths())
-                .minAmount(product.getMinAmount())
-                .maxAmount(product.getMaxAmount())
-                .currency(product.getCurrency())
-                .status(product.getStatus())
-                .effectiveDate(product.getEffectiveDate())
-                .expiryDate(product.getExpiryDate())
-                .regulatoryCode(product.getRegulatoryCode())
-                .requiresApproval(product.getRequiresApproval())
-                .createdAt(product.getCreatedAt())
-                .updatedAt(product.getUpdatedAt())
-                .build();
-    }
-
-    private PricingRuleResponse mapToPricingRuleResponse(com.bt.product.entity.PricingRule rule) {
-        return PricingRuleResponse.builder()
-                .id(rule.getId())
-                .productId(rule.getProduct().getId())
-                .productCode(rule.getProduct().getProductCode())
-                .ruleName(rule.getRuleName())
-                .ruleDescription(rule.getRuleDescription())
-                .minThreshold(rule.getMinThreshold())
-                .maxThreshold(rule.getMaxThreshold())
-                .interestRate(rule.getInterestRate())
-                .feeAmount(rule.getFeeAmount())
-                .discountPercentage(rule.getDiscountPercentage())
-                .priorityOrder(rule.getPriorityOrder())
-                .isActive(rule.getIsActive())
-                .createdAt(rule.getCreatedAt())
-                .updatedAt(rule.getUpdatedAt())
-                .build();
-    }
 }
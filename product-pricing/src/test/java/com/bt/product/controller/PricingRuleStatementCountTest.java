@@ -0,0 +1,126 @@
+package com.bt.product.controller;
+
+import com.bt.product.entity.Currency;
+import com.bt.product.entity.PricingRule;
+import com.bt.product.entity.Product;
+import com.bt.product.entity.ProductStatus;
+import com.bt.product.entity.ProductType;
+import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductRepository;
+import com.bt.product.service.ProductCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class PricingRuleStatementCountTest {
+
+    private static final int RULES = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Product product;
+    private Long ruleId;
+
+    @BeforeEach
+    void setUp() {
+        pricingRuleRepository.deleteAll();
+        productRepository.deleteAll();
+        product = productRepository.save(Product.builder()
+                .productCode("FD001")
+                .productName("Fixed Deposit")
+                .productType(ProductType.FIXED_DEPOSIT)
+                .currency(Currency.INR)
+                .status(ProductStatus.ACTIVE)
+                .effectiveDate(LocalDate.now().minusDays(1))
+                .build());
+        for (int i = 0; i < RULES; i++) {
+            ruleId = pricingRuleRepository.save(PricingRule.builder()
+                    .product(product)
+                    .ruleName("Tier " + i)
+                    .minThreshold(BigDecimal.valueOf(i * 1000L))
+                    .interestRate(BigDecimal.valueOf(6 + i))
+                    .priorityOrder(i)
+                    .isActive(true)
+                    .build()).getId();
+        }
+        productCatalog.reload();
+    }
+
+    @Test
+    void listingRulesForProduct_UsesSingleStatement() throws Exception {
+        long statements = countStatements(() -> mockMvc.perform(get("/api/v1/pricing-rule/product/{id}", product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(RULES))
+                .andExpect(jsonPath("$.data[0].productCode").value("FD001")));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void gettingRuleById_UsesSingleStatement() throws Exception {
+        long statements = countStatements(() -> mockMvc.perform(get("/api/v1/pricing-rule/{id}", ruleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productCode").value("FD001")));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void catalogBackedEndpoints_DoNotQueryTheDatabase() throws Exception {
+        long statements = countStatements(() -> {
+            mockMvc.perform(get("/api/v1/pricing-rule/product/{id}/active", product.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(RULES));
+            mockMvc.perform(get("/api/v1/pricing-rule/product/{id}/applicable", product.getId())
+                    .param("amount", "2500"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(3));
+            mockMvc.perform(get("/api/v1/product/status/{code}", "FD001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.applicablePricingRules.length()").value(RULES));
+        });
+
+        assertEquals(0, statements);
+    }
+
+    private long countStatements(ThrowingRunnable action) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
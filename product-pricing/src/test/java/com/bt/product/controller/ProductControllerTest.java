@@ -12,17 +12,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductController.class)
+@EnableMethodSecurity
 class ProductControllerTest {
 
     @Autowired
@@ -66,8 +71,11 @@ class ProductControllerTest {
         mockMvc.perform(post("/api/v1/product")
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
-                .content("{\"productCode\":\"SAV001\"}"))
+                .content(
+                        "{\"productCode\":\"SAV001\",\"productName\":\"Premium Savings Account\",\"productType\":\"SAVINGS_ACCOUNT\",\"currency\":\"USD\",\"effectiveDate\":\"2025-01-01\"}"))
                 .andExpect(status().isForbidden());
+
+        verify(productService, never()).createProduct(any(ProductRequest.class));
     }
 
     @Test
@@ -80,6 +88,56 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.productCode").value("SAV001"));
     }
 
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void getProductByCode_ReturnsEntityTagAndCatalogVersion() throws Exception {
+        when(productService.getProductTag("SAV001")).thenReturn("p1-18d");
+        when(productService.getCatalogVersion()).thenReturn(7L);
+        when(productService.getProductByCode("SAV001")).thenReturn(productResponse);
+
+        mockMvc.perform(get("/api/v1/product/SAV001"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"p1-18d\""))
+                .andExpect(header().string("X-Catalog-Version", "7"))
+                .andExpect(jsonPath("$.data.productCode").value("SAV001"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void getProductByCode_WithMatchingEntityTag_ReturnsNotModified() throws Exception {
+        when(productService.getProductTag("SAV001")).thenReturn("p1-18d");
+
+        mockMvc.perform(get("/api/v1/product/SAV001").header("If-None-Match", "\"p1-18d\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"p1-18d\""))
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getProductByCode(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void getAllProducts_WithStaleEntityTag_ReturnsCatalog() throws Exception {
+        when(productService.getCatalogTag()).thenReturn("c2-18d-4f");
+        when(productService.getAllProducts()).thenReturn(List.of(productResponse));
+
+        mockMvc.perform(get("/api/v1/product").header("If-None-Match", "\"c1-18c-3e\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"c2-18d-4f\""))
+                .andExpect(jsonPath("$.data[0].productCode").value("SAV001"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void getProductStatus_WithMatchingEntityTag_ReturnsNotModified() throws Exception {
+        when(productService.getProductStatusTag("SAV001")).thenReturn("p1-18d-v-0");
+
+        mockMvc.perform(get("/api/v1/product/status/SAV001").header("If-None-Match", "\"p1-18d-v-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).getProductStatus(any());
+    }
+
     @Test
     void getProductByCode_WithoutAuthentication_ReturnsUnauthorized() throws Exception {
         mockMvc.perform(get("/api/v1/product/SAV001"))
@@ -1,9 +1,12 @@
 package com.bt.product.repository;
 
+import com.bt.product.dto.ProductSearchRequest;
 import com.bt.product.entity.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -95,12 +98,41 @@ class ProductRepositoryTest {
         productRepository.save(product);
 
         List<Product> results = productRepository.searchProducts(
-                ProductType.PERSONAL_LOAN,
-                Currency.USD,
-                ProductStatus.ACTIVE,
-                LocalDate.now(),
-                LocalDate.now().plusDays(300));
+                ProductSpecifications.matching(ProductSearchRequest.builder()
+                        .productType(ProductType.PERSONAL_LOAN)
+                        .currency(Currency.USD)
+                        .status(ProductStatus.ACTIVE)
+                        .effectiveDate(LocalDate.now())
+                        .expiryDate(LocalDate.now().plusDays(300))
+                        .productName("Personal")
+                        .build()),
+                Sort.by("id"), 10);
 
         assertThat(results).isNotEmpty();
     }
+
+    @Test
+    void searchProducts_WithKeysetCondition_PagesInSortOrder() {
+        for (String name : List.of("Beta", "Alpha", "Beta", "Gamma")) {
+            productRepository.save(Product.builder()
+                    .productCode("PG" + productRepository.count())
+                    .productName(name)
+                    .productType(ProductType.SAVINGS_ACCOUNT)
+                    .currency(Currency.USD)
+                    .status(ProductStatus.ACTIVE)
+                    .effectiveDate(LocalDate.now())
+                    .build());
+        }
+        Sort sort = Sort.by("productName", "id");
+        Specification<Product> all = ProductSpecifications.matching(new ProductSearchRequest());
+
+        List<Product> first = productRepository.searchProducts(all, sort, 2);
+        Product last = first.get(1);
+        List<Product> rest = productRepository.searchProducts(all.and(ProductSpecifications.after("productName",
+                Sort.Direction.ASC, last.getProductName(), last.getId())), sort, 10);
+
+        assertThat(first).extracting(Product::getProductName).containsExactly("Alpha", "Beta");
+        assertThat(rest).extracting(Product::getProductName).containsExactly("Beta", "Gamma");
+        assertThat(rest.get(0).getId()).isGreaterThan(last.getId());
+    }
 }
@@ -0,0 +1,117 @@
+package com.bt.product.repository;
+
+import com.bt.product.dto.ProductSearchRequest;
+import com.bt.product.entity.Currency;
+import com.bt.product.entity.Product;
+import com.bt.product.entity.ProductStatus;
+import com.bt.product.entity.ProductType;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.bt.product.repository.ProductSearchQueryPlanTest$RecordingInspector")
+class ProductSearchQueryPlanTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void statusAndType_UseCompositeIndexWithoutUnsuppliedPredicates() {
+        String sql = search(ProductSearchRequest.builder()
+                .status(ProductStatus.ACTIVE)
+                .productType(ProductType.FIXED_DEPOSIT)
+                .build(), Sort.by("id"));
+
+        assertThat(sql.toLowerCase(Locale.ROOT)).doesNotContain("is null");
+        assertThat(explain(sql)).contains("IDX_STATUS_TYPE");
+    }
+
+    @Test
+    void statusAndCurrency_UseCompositeIndex() {
+        String sql = search(ProductSearchRequest.builder()
+                .status(ProductStatus.ACTIVE)
+                .currency(Currency.INR)
+                .build(), Sort.by("id"));
+
+        assertThat(explain(sql)).contains("IDX_STATUS_CURRENCY");
+    }
+
+    @Test
+    void typeAndCurrency_UseCompositeIndex() {
+        String sql = search(ProductSearchRequest.builder()
+                .productType(ProductType.SAVINGS_ACCOUNT)
+                .currency(Currency.USD)
+                .build(), Sort.by("id"));
+
+        assertThat(explain(sql)).contains("IDX_PRODUCT_TYPE_CURRENCY");
+    }
+
+    @Test
+    void nameKeysetPage_UsesNameIndexRange() {
+        Specification<Product> specification = ProductSpecifications.matching(new ProductSearchRequest())
+                .and(ProductSpecifications.after("productName", Sort.Direction.ASC, "Fixed", 42L));
+
+        String sql = search(specification, Sort.by("productName", "id"));
+
+        assertThat(explain(sql)).contains("IDX_PRODUCT_NAME: PRODUCT_NAME >=");
+    }
+
+    @Test
+    void idKeysetPage_UsesPrimaryKeyRange() {
+        Specification<Product> specification = ProductSpecifications.matching(new ProductSearchRequest())
+                .and(ProductSpecifications.after("id", Sort.Direction.ASC, "", 42L));
+
+        String sql = search(specification, Sort.by("id"));
+
+        assertThat(explain(sql)).containsPattern("PRIMARY_KEY_\\w+: ID >");
+    }
+
+    private String search(ProductSearchRequest request, Sort sort) {
+        return search(ProductSpecifications.matching(request), sort);
+    }
+
+    private String search(Specification<Product> specification, Sort sort) {
+        productRepository.searchProducts(specification, sort, 21);
+        return RecordingInspector.STATEMENTS.get(RecordingInspector.STATEMENTS.size() - 1);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql), resultSet -> {
+            resultSet.next();
+            return resultSet.getString(1).toUpperCase(Locale.ROOT);
+        });
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.toLowerCase(Locale.ROOT).startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.CatalogChangeFeedResponse;
+import com.bt.product.entity.CatalogChange;
+import com.bt.product.entity.CatalogState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeFeedTest {
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
+
+    @InjectMocks
+    private CatalogChangeFeed changeFeed;
+
+    private final CatalogState state = CatalogState.builder()
+            .id(CatalogState.SINGLETON_ID)
+            .feedId("feed-1")
+            .version(4L)
+            .purgedThrough(0L)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(productCatalog.catchUp()).thenReturn(snapshot(4));
+        lenient().when(catalogChangeLog.state()).thenReturn(state);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeed.shutdown();
+    }
+
+    @Test
+    void getChanges_ResumesAfterVersionWithoutSplittingOne() {
+        List<CatalogChange> second = List.of(
+                change(2, "FD001", 1L, CatalogChange.ChangeType.UPDATED),
+                change(2, "SAV001", 2L, CatalogChange.ChangeType.PRICING_CHANGED));
+        when(catalogChangeLog.changesBetween(1L, 4L, 2)).thenReturn(second);
+        when(catalogChangeLog.changesAt(2L)).thenReturn(second);
+        when(catalogChangeLog.changesBetween(2L, 4L, 2)).thenReturn(List.of(
+                change(4, "RD001", 3L, CatalogChange.ChangeType.CREATED)));
+        when(catalogChangeLog.changesBetween(4L, 4L, 11)).thenReturn(List.of());
+
+        CatalogChangeFeedResponse first = changeFeed.getChanges(1L, 1);
+
+        assertFalse(first.isResyncRequired());
+        assertTrue(first.isHasMore());
+        assertEquals(List.of("FD001", "SAV001"),
+                first.getChanges().stream().map(CatalogChangeFeedResponse.Change::getProductCode).toList());
+        assertEquals(2L, first.getCatalogVersion());
+
+        CatalogChangeFeedResponse next = changeFeed.getChanges(first.getCatalogVersion(), 1);
+
+        assertFalse(next.isHasMore());
+        assertEquals("CREATED", next.getChanges().get(0).getChangeType());
+        assertEquals(4L, next.getCatalogVersion());
+
+        CatalogChangeFeedResponse caughtUp = changeFeed.getChanges(4L, 10);
+
+        assertTrue(caughtUp.getChanges().isEmpty());
+        assertEquals(4L, caughtUp.getCatalogVersion());
+        assertEquals("feed-1", caughtUp.getFeedId());
+    }
+
+    @Test
+    void getChanges_RequiresResyncWhenChangesWerePurged() {
+        state.setPurgedThrough(2L);
+        when(catalogChangeLog.changesBetween(2L, 4L, 11)).thenReturn(List.of(
+                change(3, "SAV001", 2L, CatalogChange.ChangeType.DELETED)));
+
+        assertTrue(changeFeed.getChanges(1L, 10).isResyncRequired());
+        assertTrue(changeFeed.getChanges(null, 10).isResyncRequired());
+        assertTrue(changeFeed.getChanges(9L, 10).isResyncRequired());
+
+        CatalogChangeFeedResponse resumed = changeFeed.getChanges(2L, 10);
+        assertFalse(resumed.isResyncRequired());
+        assertEquals(2L, resumed.getOldestVersion());
+        assertEquals("DELETED", resumed.getChanges().get(0).getChangeType());
+    }
+
+    @Test
+    void getChanges_ResumesOnAnotherInstanceOfTheService() {
+        ProductCatalog otherCatalog = mock(ProductCatalog.class);
+        when(otherCatalog.catchUp()).thenReturn(snapshot(4));
+        CatalogChangeFeed otherFeed = new CatalogChangeFeed(otherCatalog, catalogChangeLog);
+        when(catalogChangeLog.changesBetween(3L, 4L, 11)).thenReturn(List.of(
+                change(4, "RD001", 3L, CatalogChange.ChangeType.CREATED)));
+
+        CatalogChangeFeedResponse resumed = otherFeed.getChanges(3L, 10);
+
+        assertFalse(resumed.isResyncRequired());
+        assertEquals("feed-1", resumed.getFeedId());
+        assertEquals(List.of("RD001"),
+                resumed.getChanges().stream().map(CatalogChangeFeedResponse.Change::getProductCode).toList());
+        assertEquals(changeFeed.getChanges(3L, 10).getCatalogVersion(), resumed.getCatalogVersion());
+        otherFeed.shutdown();
+    }
+
+    @Test
+    void subscribe_RegistersStreamSubscriber() {
+        changeFeed.subscribe(4L);
+
+        assertEquals(1, changeFeed.subscriberCount());
+    }
+
+    @Test
+    void subscribe_DeliversAVersionPublishedWhileReadingTheBacklog() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        CatalogChangeFeed feed = spy(changeFeed);
+        doReturn(emitter).when(feed).newEmitter();
+        when(productCatalog.catchUp()).thenAnswer(invocation -> {
+            feed.onCatalogChanged(new ProductCatalogChangedEvent(4, 5));
+            return snapshot(4);
+        });
+        when(catalogChangeLog.changesBetween(2L, 5L, Integer.MAX_VALUE)).thenReturn(List.of(
+                change(3, "FD001", 1L, CatalogChange.ChangeType.UPDATED),
+                change(5, "SAV001", 2L, CatalogChange.ChangeType.PRICING_CHANGED)));
+        lenient().when(catalogChangeLog.changesBetween(4L, 5L, Integer.MAX_VALUE)).thenReturn(List.of(
+                change(5, "SAV001", 2L, CatalogChange.ChangeType.PRICING_CHANGED)));
+
+        feed.subscribe(2L);
+        feed.onCatalogChanged(new ProductCatalogChangedEvent(4, 5));
+        ExecutorService dispatcher = (ExecutorService) ReflectionTestUtils.getField(changeFeed, "dispatcher");
+        dispatcher.submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, emitter.sent.size());
+        assertEquals(5L, emitter.sent.get(0).getCatalogVersion());
+        assertEquals(List.of(3L, 5L), emitter.sent.get(0).getChanges().stream()
+                .map(CatalogChangeFeedResponse.Change::getVersion).toList());
+    }
+
+    private static ProductCatalog.Snapshot snapshot(long version) {
+        return ProductCatalog.Snapshot.build(version, LocalDate.of(2025, 3, 14), List.of(), Map.of());
+    }
+
+    private static CatalogChange change(long version, String code, Long id, CatalogChange.ChangeType changeType) {
+        return CatalogChange.builder()
+                .version(version)
+                .changeType(changeType)
+                .productCode(code)
+                .productId(id)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<CatalogChangeFeedResponse> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(CatalogChangeFeedResponse.class::isInstance)
+                    .forEach(data -> sent.add((CatalogChangeFeedResponse) data));
+        }
+    }
+}
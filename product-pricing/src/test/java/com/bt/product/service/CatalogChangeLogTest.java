@@ -0,0 +1,103 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.CatalogChangeFeedResponse;
+import com.bt.product.dto.ProductRequest;
+import com.bt.product.entity.CatalogChange;
+import com.bt.product.entity.Currency;
+import com.bt.product.entity.ProductStatus;
+import com.bt.product.entity.ProductType;
+import com.bt.product.repository.CatalogChangeRepository;
+import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CatalogChangeLogTest {
+
+    @Autowired
+    private CatalogChangeLog catalogChangeLog;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private CatalogChangeFeed changeFeed;
+
+    @Autowired
+    private CatalogChangeRepository changeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PricingRuleRepository pricingRuleRepository;
+
+    @BeforeEach
+    void setUp() {
+        pricingRuleRepository.deleteAll();
+        productRepository.deleteAll();
+        changeRepository.deleteAll();
+        productCatalog.reload();
+    }
+
+    @Test
+    void productWrites_AdvanceThePersistedVersionAndFeed() {
+        long before = catalogChangeLog.currentVersion();
+        String feedId = changeFeed.getChanges(before, 10).getFeedId();
+
+        productService.createProduct(request("FD100"));
+        productService.updateProduct("FD100", request("FD100"));
+
+        assertEquals(before + 2, catalogChangeLog.currentVersion());
+        assertEquals(before + 2, productCatalog.current().version());
+
+        CatalogChangeFeedResponse feed = changeFeed.getChanges(before, 10);
+        assertEquals(feedId, feed.getFeedId());
+        assertEquals(before + 2, feed.getCatalogVersion());
+        assertEquals(List.of("CREATED", "UPDATED"),
+                feed.getChanges().stream().map(CatalogChangeFeedResponse.Change::getChangeType).toList());
+    }
+
+    @Test
+    void record_RequiresTheWritersTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> catalogChangeLog.record(CatalogChange.ChangeType.UPDATED, "FD100", 1L));
+    }
+
+    @Test
+    void recordValidity_AdvancesOncePerDay() {
+        LocalDate day = LocalDate.now().plusDays(400);
+        long before = catalogChangeLog.currentVersion();
+
+        long recorded = catalogChangeLog.recordValidity(day, Map.of("FD100", 1L));
+        long repeated = catalogChangeLog.recordValidity(day, Map.of("FD100", 1L));
+
+        assertEquals(before + 1, recorded);
+        assertEquals(recorded, repeated);
+        assertEquals(1, changeRepository.count());
+    }
+
+    private static ProductRequest request(String code) {
+        return ProductRequest.builder()
+                .productCode(code)
+                .productName(code + " product")
+                .productType(ProductType.FIXED_DEPOSIT)
+                .currency(Currency.INR)
+                .status(ProductStatus.ACTIVE)
+                .effectiveDate(LocalDate.now().minusDays(1))
+                .build();
+    }
+}
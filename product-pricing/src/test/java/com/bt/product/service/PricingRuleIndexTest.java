@@ -0,0 +1,73 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.PricingRuleResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingRuleIndexTest {
+
+    @Test
+    void applicable_MatchesInclusiveThresholdsInPriorityOrder() {
+        PricingRuleResponse base = rule(1L, null, null);
+        PricingRuleResponse tierOne = rule(2L, "1000", "10000");
+        PricingRuleResponse tierTwo = rule(3L, "10000", null);
+        PricingRuleResponse small = rule(4L, null, "999.99");
+        PricingRuleIndex index = PricingRuleIndex.compile(List.of(base, tierOne, tierTwo, small));
+
+        assertEquals(List.of(base, small), index.applicable(new BigDecimal("500")));
+        assertEquals(List.of(base, tierOne), index.applicable(new BigDecimal("1000")));
+        assertEquals(List.of(base, tierOne), index.applicable(new BigDecimal("1000.00")));
+        assertEquals(List.of(base, tierOne, tierTwo), index.applicable(new BigDecimal("10000")));
+        assertEquals(List.of(base, tierTwo), index.applicable(new BigDecimal("10000.01")));
+        assertEquals(List.of(base), index.applicable(new BigDecimal("999.995")));
+        assertEquals(List.of(base, tierOne, tierTwo, small), index.rules());
+    }
+
+    @Test
+    void applicable_ReturnsSharedImmutableResults() {
+        PricingRuleIndex index = PricingRuleIndex.compile(List.of(rule(1L, "100", "200")));
+
+        assertSame(index.applicable(new BigDecimal("150")), index.applicable(new BigDecimal("199")));
+        assertThrows(UnsupportedOperationException.class, () -> index.applicable(new BigDecimal("150")).clear());
+        assertTrue(index.applicable(new BigDecimal("50")).isEmpty());
+        assertTrue(PricingRuleIndex.empty().applicable(BigDecimal.TEN).isEmpty());
+    }
+
+    @Test
+    void applicable_AgreesWithLinearScan() {
+        Random random = new Random(42);
+        List<PricingRuleResponse> rules = new ArrayList<>();
+        for (long id = 0; id < 40; id++) {
+            String min = random.nextInt(4) == 0 ? null : String.valueOf(random.nextInt(100) * 10);
+            String max = random.nextInt(4) == 0 ? null : String.valueOf(random.nextInt(100) * 10 + 500);
+            rules.add(rule(id, min, max));
+        }
+        PricingRuleIndex index = PricingRuleIndex.compile(rules);
+
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(16000) - 500, 1);
+            List<PricingRuleResponse> expected = rules.stream()
+                    .filter(rule -> rule.getMinThreshold() == null || rule.getMinThreshold().compareTo(amount) <= 0)
+                    .filter(rule -> rule.getMaxThreshold() == null || rule.getMaxThreshold().compareTo(amount) >= 0)
+                    .toList();
+            assertEquals(expected, index.applicable(amount), "amount " + amount);
+        }
+    }
+
+    private PricingRuleResponse rule(Long id, String min, String max) {
+        return PricingRuleResponse.builder()
+                .id(id)
+                .ruleName("rule-" + id)
+                .minThreshold(min == null ? null : new BigDecimal(min))
+                .maxThreshold(max == null ? null : new BigDecimal(max))
+                .priorityOrder(id.intValue())
+                .isActive(true)
+                .build();
+    }
+}
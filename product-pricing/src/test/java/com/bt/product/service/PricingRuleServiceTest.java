@@ -0,0 +1,137 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.PricingQuoteRequest;
+import com.bt.product.dto.PricingQuoteResponse;
+import com.bt.product.dto.PricingRuleResponse;
+import com.bt.product.dto.ProductResponse;
+import com.bt.product.entity.Currency;
+import com.bt.product.entity.ProductStatus;
+import com.bt.product.entity.ProductType;
+import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PricingRuleServiceTest {
+
+    @Mock
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
+
+    @InjectMocks
+    private PricingRuleService pricingRuleService;
+
+    private PricingRuleResponse premium;
+    private PricingRuleResponse standard;
+
+    @BeforeEach
+    void setUp() {
+        ProductResponse deposit = ProductResponse.builder()
+                .id(1L)
+                .productCode("FD001")
+                .productName("Fixed Deposit")
+                .productType(ProductType.FIXED_DEPOSIT)
+                .minInterestRate(new BigDecimal("5.00"))
+                .currency(Currency.INR)
+                .status(ProductStatus.ACTIVE)
+                .effectiveDate(LocalDate.now())
+                .build();
+        premium = PricingRuleResponse.builder()
+                .id(10L)
+                .productId(1L)
+                .productCode("FD001")
+                .ruleName("Premium")
+                .minThreshold(new BigDecimal("100000"))
+                .interestRate(new BigDecimal("7.25"))
+                .discountPercentage(new BigDecimal("0.50"))
+                .priorityOrder(1)
+                .build();
+        standard = PricingRuleResponse.builder()
+                .id(11L)
+                .productId(1L)
+                .productCode("FD001")
+                .ruleName("Standard")
+                .minThreshold(new BigDecimal("1000"))
+                .feeAmount(new BigDecimal("25.00"))
+                .priorityOrder(2)
+                .build();
+        ProductCatalog.Snapshot snapshot = ProductCatalog.Snapshot.build(1, LocalDate.now(), List.of(deposit),
+                Map.of("FD001", List.of(premium, standard)));
+        when(productCatalog.current()).thenReturn(snapshot);
+    }
+
+    @Test
+    void quoteBatch_AppliesHighestPriorityRule() {
+        List<PricingQuoteResponse> quotes = pricingRuleService.quoteBatch(List.of(
+                new PricingQuoteRequest(1L, new BigDecimal("250000")),
+                new PricingQuoteRequest(1L, new BigDecimal("5000")),
+                new PricingQuoteRequest(1L, new BigDecimal("10"))));
+
+        PricingQuoteResponse large = quotes.get(0);
+        assertEquals(10L, large.getAppliedRuleId());
+        assertEquals(new BigDecimal("7.25"), large.getInterestRate());
+        assertEquals(BigDecimal.ZERO, large.getFeeAmount());
+        assertEquals(new BigDecimal("0.50"), large.getDiscountPercentage());
+        assertEquals(List.of(premium, standard), large.getApplicableRules());
+
+        PricingQuoteResponse medium = quotes.get(1);
+        assertEquals(11L, medium.getAppliedRuleId());
+        assertEquals(new BigDecimal("5.00"), medium.getInterestRate());
+        assertEquals(new BigDecimal("25.00"), medium.getFeeAmount());
+
+        PricingQuoteResponse small = quotes.get(2);
+        assertNull(small.getAppliedRuleId());
+        assertEquals(new BigDecimal("5.00"), small.getInterestRate());
+        assertTrue(small.getApplicableRules().isEmpty());
+        verifyNoInteractions(pricingRuleRepository);
+    }
+
+    @Test
+    void quoteBatch_ReportsUnknownProductsPerItem() {
+        List<PricingQuoteResponse> quotes = pricingRuleService.quoteBatch(List.of(
+                new PricingQuoteRequest(99L, BigDecimal.TEN),
+                new PricingQuoteRequest(1L, new BigDecimal("5000"))));
+
+        assertEquals("Product not found with id: 99", quotes.get(0).getError());
+        assertNull(quotes.get(1).getError());
+        assertEquals("FD001", quotes.get(1).getProductCode());
+    }
+
+    @Test
+    void quoteBatch_KeepsRequestOrderForLargeBatches() {
+        List<PricingQuoteRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            requests.add(new PricingQuoteRequest(1L, BigDecimal.valueOf(i * 500L)));
+        }
+
+        List<PricingQuoteResponse> quotes = pricingRuleService.quoteBatch(requests);
+
+        assertEquals(500, quotes.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(requests.get(i).getAmount(), quotes.get(i).getAmount());
+        }
+        verify(productCatalog, times(1)).current();
+    }
+}
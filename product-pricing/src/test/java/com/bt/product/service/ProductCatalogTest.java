@@ -0,0 +1,288 @@
+package com.bt.product.service;
+
+import com.bt.product.entity.Currency;
+import com.bt.product.entity.PricingRule;
+import com.bt.product.entity.Product;
+import com.bt.product.entity.ProductStatus;
+import com.bt.product.entity.ProductType;
+import com.bt.product.repository.PricingRuleRepository;
+import com.bt.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 14);
+
+    private final ProductSearchIndex searchIndex = new ProductSearchIndex();
+    private ProductCatalog productCatalog;
+    private Product savings;
+    private Product deposit;
+
+    @BeforeEach
+    void setUp() {
+        productCatalog = new ProductCatalog(productRepository, pricingRuleRepository, transactionManager,
+                taskScheduler, eventPublisher, searchIndex, catalogChangeLog);
+        ReflectionTestUtils.setField(productCatalog, "clock", clockAt(TODAY));
+        savings = product(2L, "SAV001", ProductType.SAVINGS_ACCOUNT);
+        deposit = product(1L, "FD001", ProductType.FIXED_DEPOSIT);
+        lenient().when(catalogChangeLog.currentVersion()).thenReturn(1L);
+        lenient().when(productRepository.findAll()).thenReturn(List.of(savings, deposit));
+        lenient().when(pricingRuleRepository.findActiveRulesWithProduct()).thenReturn(List.of(
+                rule(10L, deposit, "Senior bonus", 2),
+                rule(11L, deposit, "Base rate", 1),
+                rule(12L, savings, "Savings base", 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void current_BuildsIndexedSnapshot() {
+        ProductCatalog.Snapshot snapshot = productCatalog.current();
+
+        assertEquals(1, snapshot.version());
+        assertEquals(List.of("FD001", "SAV001"),
+                snapshot.products().stream().map(p -> p.getProductCode()).toList());
+        assertEquals("SAV001", snapshot.findProduct("SAV001").orElseThrow().getProductCode());
+        assertTrue(snapshot.findProduct("MISSING").isEmpty());
+        assertEquals(List.of("Base rate", "Senior bonus"),
+                snapshot.activeRules(1L).stream().map(r -> r.getRuleName()).toList());
+        assertTrue(snapshot.activeRules(99L).isEmpty());
+        assertEquals(2, snapshot.applicableRules(1L, BigDecimal.TEN).size());
+        assertTrue(snapshot.applicableRules(99L, BigDecimal.TEN).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.products().clear());
+
+        assertEquals(List.of(1L), searchIndex.search("fd001", 5));
+
+        productCatalog.current();
+        verify(productRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refreshAfterCommit_SwapsSnapshotOnlyAfterCommit() {
+        ProductCatalog.Snapshot before = productCatalog.current();
+        when(catalogChangeLog.currentVersion()).thenReturn(2L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        productCatalog.refreshAfterCommit();
+        productCatalog.refreshAfterCommit();
+
+        assertSame(before, productCatalog.current());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        commit(synchronizations);
+
+        ProductCatalog.Snapshot after = productCatalog.current();
+        assertNotSame(before, after);
+        assertEquals(2, after.version());
+        verify(productRepository, times(2)).findAll();
+    }
+
+    @Test
+    void refreshAfterCommit_IsNotSatisfiedByARebuildThatStartedBeforeCommit() {
+        productCatalog.current();
+        TransactionSynchronizationManager.initSynchronization();
+        productCatalog.refreshAfterCommit();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        productCatalog.reload();
+        Product created = product(3L, "RD001", ProductType.RECURRING_DEPOSIT);
+        when(productRepository.findAll()).thenReturn(List.of(savings, deposit, created));
+        when(catalogChangeLog.currentVersion()).thenReturn(2L);
+        commit(synchronizations);
+
+        assertTrue(productCatalog.current().findProduct("RD001").isPresent());
+        assertEquals(2, productCatalog.current().version());
+    }
+
+    @Test
+    void validity_IsPrecomputedAndAdvancedAtTheNextBoundary() {
+        Product expiring = product(3L, "RD001", ProductType.RECURRING_DEPOSIT);
+        expiring.setExpiryDate(TODAY);
+        Product upcoming = product(4L, "CC001", ProductType.CREDIT_CARD);
+        upcoming.setEffectiveDate(TODAY.plusDays(1));
+        Product later = product(5L, "HL001", ProductType.HOME_LOAN);
+        later.setEffectiveDate(TODAY.plusDays(30));
+        when(productRepository.findAll()).thenReturn(List.of(savings, expiring, upcoming, later));
+        when(catalogChangeLog.recordValidity(TODAY.plusDays(1), Map.of("RD001", 3L, "CC001", 4L))).thenReturn(2L);
+
+        ProductCatalog.Snapshot snapshot = productCatalog.current();
+
+        assertTrue(snapshot.isValid("SAV001"));
+        assertTrue(snapshot.isValid("RD001"));
+        assertFalse(snapshot.isValid("CC001"));
+        assertEquals(TODAY.plusDays(1), snapshot.nextTransition().orElseThrow());
+        verify(taskScheduler).schedule(any(Runnable.class),
+                eq(TODAY.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+
+        ReflectionTestUtils.setField(productCatalog, "clock", clockAt(TODAY.plusDays(1)));
+        productCatalog.advanceValidity();
+
+        ProductCatalog.Snapshot next = productCatalog.current();
+        assertEquals(snapshot.version() + 1, next.version());
+        assertFalse(next.isValid("RD001"));
+        assertTrue(next.isValid("CC001"));
+        assertFalse(next.isValid("HL001"));
+        assertEquals(TODAY.plusDays(30), next.nextTransition().orElseThrow());
+        verify(eventPublisher).publishEvent(new ProductCatalogChangedEvent(snapshot.version(), next.version()));
+        verify(productRepository, times(1)).findAll();
+    }
+
+    @Test
+    void current_AdvancesStaleValidityWithoutReloading() {
+        Product upcoming = product(4L, "CC001", ProductType.CREDIT_CARD);
+        upcoming.setEffectiveDate(TODAY.plusDays(2));
+        when(productRepository.findAll()).thenReturn(List.of(upcoming));
+        when(catalogChangeLog.recordValidity(TODAY.plusDays(3), Map.of("CC001", 4L))).thenReturn(2L);
+        assertFalse(productCatalog.current().isValid("CC001"));
+
+        ReflectionTestUtils.setField(productCatalog, "clock", clockAt(TODAY.plusDays(3)));
+
+        assertTrue(productCatalog.current().isValid("CC001"));
+        verify(productRepository, times(1)).findAll();
+    }
+
+    @Test
+    void entityTags_FollowUpdatedAtAndSurviveUnchangedRebuilds() {
+        savings.setUpdatedAt(TODAY.atTime(9, 0));
+        ProductCatalog.Snapshot first = productCatalog.current();
+        String catalogTag = first.catalogTag();
+        String savingsTag = first.productTag("SAV001").orElseThrow();
+        String depositStatusTag = first.statusTag("FD001").orElseThrow();
+        assertTrue(first.productTag("MISSING").isEmpty());
+
+        productCatalog.reload();
+        ProductCatalog.Snapshot unchanged = productCatalog.current();
+        assertEquals(1, unchanged.version());
+        assertEquals(catalogTag, unchanged.catalogTag());
+        assertEquals(savingsTag, unchanged.productTag("SAV001").orElseThrow());
+
+        savings.setUpdatedAt(TODAY.atTime(10, 0));
+        when(pricingRuleRepository.findActiveRulesWithProduct()).thenReturn(List.of(
+                rule(11L, deposit, "Base rate", 1),
+                rule(12L, savings, "Savings base", 1)));
+        when(catalogChangeLog.currentVersion()).thenReturn(2L);
+        productCatalog.reload();
+        ProductCatalog.Snapshot changed = productCatalog.current();
+
+        assertNotEquals(catalogTag, changed.catalogTag());
+        assertNotEquals(savingsTag, changed.productTag("SAV001").orElseThrow());
+        assertEquals(first.productTag("FD001"), changed.productTag("FD001"));
+        assertNotEquals(depositStatusTag, changed.statusTag("FD001").orElseThrow());
+        assertEquals(2, changed.version());
+        verify(eventPublisher).publishEvent(new ProductCatalogChangedEvent(1, 2));
+    }
+
+    @Test
+    void pollVersion_ReloadsWhenAnotherInstanceCommittedChanges() {
+        productCatalog.current();
+
+        productCatalog.pollVersion();
+        verify(productRepository, times(1)).findAll();
+
+        when(catalogChangeLog.currentVersion()).thenReturn(5L);
+        productCatalog.pollVersion();
+
+        assertEquals(5, productCatalog.current().version());
+        verify(productRepository, times(2)).findAll();
+        verify(eventPublisher).publishEvent(new ProductCatalogChangedEvent(1, 5));
+    }
+
+    @Test
+    void advanceValidity_ReloadsWhenTheCatalogMovedOnElsewhere() {
+        Product upcoming = product(4L, "CC001", ProductType.CREDIT_CARD);
+        upcoming.setEffectiveDate(TODAY.plusDays(1));
+        when(productRepository.findAll()).thenReturn(List.of(upcoming));
+        productCatalog.current();
+
+        when(catalogChangeLog.recordValidity(TODAY.plusDays(1), Map.of("CC001", 4L))).thenReturn(7L);
+        when(catalogChangeLog.currentVersion()).thenReturn(7L);
+        ReflectionTestUtils.setField(productCatalog, "clock", clockAt(TODAY.plusDays(1)));
+        productCatalog.advanceValidity();
+
+        ProductCatalog.Snapshot next = productCatalog.current();
+        assertEquals(7, next.version());
+        assertTrue(next.isValid("CC001"));
+        verify(productRepository, times(2)).findAll();
+        verify(eventPublisher).publishEvent(new ProductCatalogChangedEvent(1, 7));
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronizations) {
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+
+    private Product product(Long id, String code, ProductType type) {
+        return Product.builder()
+                .id(id)
+                .productCode(code)
+                .productName(code + " product")
+                .productType(type)
+                .currency(Currency.INR)
+                .status(ProductStatus.ACTIVE)
+                .effectiveDate(TODAY.minusDays(1))
+                .build();
+    }
+
+    private PricingRule rule(Long id, Product product, String name, int priority) {
+        return PricingRule.builder()
+                .id(id)
+                .product(product)
+                .ruleName(name)
+                .interestRate(BigDecimal.valueOf(6.5))
+                .priorityOrder(priority)
+                .isActive(true)
+                .build();
+    }
+}
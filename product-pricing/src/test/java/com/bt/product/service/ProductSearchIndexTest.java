@@ -0,0 +1,73 @@
+package com.bt.product.service;
+
+import com.bt.product.dto.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.sync(List.of(
+                product(1L, "FD-001", "Senior Citizen Fixed Deposit", "Higher rates for senior citizens"),
+                product(2L, "SAV-001", "Premium Savings Account", "Zero balance savings with fixed sweep"),
+                product(3L, "HL-001", "Home Loan", "Floating rate housing finance"),
+                product(4L, "FD-002", "Tax Saver Deposit", "Five year lock-in deposit")));
+    }
+
+    @Test
+    void search_RanksNameAndCodeAboveDescription() {
+        List<Long> results = index.search("fixed", 10);
+
+        assertEquals(List.of(1L, 2L), results);
+    }
+
+    @Test
+    void search_MatchesPrefixesForTypeAhead() {
+        assertEquals(List.of(2L), index.search("prem", 10));
+        assertEquals(List.of(1L, 4L), index.search("fd", 10));
+        assertEquals(List.of(4L), index.search("tax sav", 10));
+        assertEquals(List.of(3L), index.search("HL-001", 10));
+    }
+
+    @Test
+    void search_ToleratesTyposThroughTrigrams() {
+        assertEquals(List.of(3L), index.search("housng", 10));
+        assertEquals(List.of(2L), index.search("savngs", 10));
+    }
+
+    @Test
+    void sync_ReindexesOnlyChangedProductsAndDropsDeletedOnes() {
+        index.sync(List.of(
+                product(1L, "FD-001", "Senior Citizen Fixed Deposit", "Higher rates for senior citizens"),
+                product(2L, "SAV-001", "Platinum Savings Account", "Zero balance savings with fixed sweep"),
+                product(4L, "FD-002", "Tax Saver Deposit", "Five year lock-in deposit")));
+
+        assertEquals(3, index.size());
+        assertTrue(index.search("premium", 10).isEmpty());
+        assertEquals(List.of(2L), index.search("platinum", 10));
+        assertTrue(index.search("home", 10).isEmpty());
+    }
+
+    @Test
+    void search_HonoursLimit() {
+        assertEquals(1, index.search("deposit", 1).size());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    private ProductResponse product(Long id, String code, String name, String description) {
+        return ProductResponse.builder()
+                .id(id)
+                .productCode(code)
+                .productName(name)
+                .description(description)
+                .build();
+    }
+}
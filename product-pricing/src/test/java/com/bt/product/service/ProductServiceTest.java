@@ -2,6 +2,9 @@ package com.bt.product.service;
 
 import com.bt.product.dto.ProductRequest;
 import com.bt.product.dto.ProductResponse;
+import com.bt.product.dto.ProductSearchRequest;
+import com.bt.product.dto.ProductSearchResponse;
+import com.bt.product.entity.CatalogChange;
 import com.bt.product.entity.Currency;
 import com.bt.product.entity.Product;
 import com.bt.product.entity.ProductStatus;
@@ -10,18 +13,22 @@ import com.bt.product.exception.DuplicateProductException;
 import com.bt.product.exception.InvalidProductDataException;
 import com.bt.product.exception.ProductNotFoundException;
 import com.bt.product.repository.ProductRepository;
-import com.bt.product.repository.PricingRuleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +38,13 @@ class ProductServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private PricingRuleRepository pricingRuleRepository;
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private ProductSearchIndex searchIndex;
+
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
 
     @InjectMocks
     private ProductService productService;
@@ -77,6 +90,8 @@ class ProductServiceTest {
         assertNotNull(response);
         assertEquals("SAV001", response.getProductCode());
         verify(productRepository).save(any(Product.class));
+        verify(catalogChangeLog).record(CatalogChange.ChangeType.CREATED, "SAV001", product.getId());
+        verify(productCatalog).refreshAfterCommit();
     }
 
     @Test
@@ -102,7 +117,7 @@ class ProductServiceTest {
 
     @Test
     void getProductByCode_Success() {
-        when(productRepository.findByProductCode("SAV001")).thenReturn(Optional.of(product));
+        when(productCatalog.current()).thenReturn(snapshotOf(product));
 
         ProductResponse response = productService.getProductByCode("SAV001");
 
@@ -112,7 +127,7 @@ class ProductServiceTest {
 
     @Test
     void getProductByCode_NotFound_ThrowsException() {
-        when(productRepository.findByProductCode("INVALID")).thenReturn(Optional.empty());
+        when(productCatalog.current()).thenReturn(snapshotOf(product));
 
         assertThrows(ProductNotFoundException.class, () -> {
             productService.getProductByCode("INVALID");
@@ -139,5 +154,61 @@ class ProductServiceTest {
         productService.deleteProduct("SAV001");
 
         verify(productRepository).delete(product);
+        verify(catalogChangeLog).record(CatalogChange.ChangeType.DELETED, "SAV001", product.getId());
+        verify(productCatalog).refreshAfterCommit();
+    }
+
+    @Test
+    void searchProducts_ReturnsKeysetPageWithCursor() {
+        Product second = Product.builder().id(2L).productCode("SAV002").productName("Savings Plus")
+                .productType(ProductType.SAVINGS_ACCOUNT).currency(Currency.USD).status(ProductStatus.ACTIVE)
+                .effectiveDate(LocalDate.now()).build();
+        Product third = Product.builder().id(3L).productCode("SAV003").productName("Savings Max")
+                .productType(ProductType.SAVINGS_ACCOUNT).currency(Currency.USD).status(ProductStatus.ACTIVE)
+                .effectiveDate(LocalDate.now()).build();
+        when(productRepository.searchProducts(any(), eq(Sort.by(Sort.Direction.ASC, "productCode", "id")), eq(3)))
+                .thenReturn(List.of(product, second, third));
+
+        ProductSearchResponse page = productService.searchProducts(ProductSearchRequest.builder()
+                .currency(Currency.USD)
+                .sortBy(ProductSearchRequest.SortField.PRODUCT_CODE)
+                .pageSize(2)
+                .build());
+
+        assertEquals(List.of("SAV001", "SAV002"),
+                page.getProducts().stream().map(ProductResponse::getProductCode).toList());
+        assertTrue(page.isHasMore());
+        assertEquals(new ProductSearchCursor(ProductSearchRequest.SortField.PRODUCT_CODE, Sort.Direction.ASC, 2L,
+                "SAV002"), ProductSearchCursor.decode(page.getNextCursor(), ProductSearchRequest.SortField.PRODUCT_CODE,
+                        Sort.Direction.ASC));
+        verifyNoInteractions(productCatalog);
+    }
+
+    @Test
+    void searchProducts_RejectsCursorFromAnotherSortOrder() {
+        String cursor = ProductSearchCursor.after(product, ProductSearchRequest.SortField.PRODUCT_NAME,
+                Sort.Direction.DESC).encode();
+
+        assertThrows(InvalidProductDataException.class, () -> productService.searchProducts(
+                ProductSearchRequest.builder().cursor(cursor).build()));
+        assertThrows(InvalidProductDataException.class, () -> productService.searchProducts(
+                ProductSearchRequest.builder().cursor("not a cursor!").build()));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void suggestProducts_ResolvesRankedIdsFromSnapshot() {
+        when(productCatalog.current()).thenReturn(snapshotOf(product));
+        when(searchIndex.search("prem", 50)).thenReturn(List.of(1L, 42L));
+
+        List<ProductResponse> suggestions = productService.suggestProducts("prem", 500);
+
+        assertEquals(List.of("SAV001"), suggestions.stream().map(ProductResponse::getProductCode).toList());
+        verifyNoInteractions(productRepository);
+    }
+
+    private ProductCatalog.Snapshot snapshotOf(Product... products) {
+        List<ProductResponse> responses = Arrays.stream(products).map(ProductMapper::toProductResponse).toList();
+        return ProductCatalog.Snapshot.build(1, LocalDate.now(), responses, Map.of());
     }
 }
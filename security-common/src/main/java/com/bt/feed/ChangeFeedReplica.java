@@ -0,0 +1,81 @@
+package com.bt.feed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Local copy of an offset-based change feed. Services supply a PageSource over their own client and DTOs.
+public class ChangeFeedReplica<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedReplica.class);
+
+    private final String feedName;
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private volatile long offset;
+    private volatile boolean caughtUp;
+
+    public ChangeFeedReplica(String feedName) {
+        this.feedName = feedName;
+    }
+
+    public Optional<V> find(K key) {
+        if (!caughtUp || key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public boolean isCaughtUp() {
+        return caughtUp;
+    }
+
+    public synchronized void poll(PageSource<K, V> source, int maxPages) {
+        try {
+            for (int page = 0; page < maxPages; page++) {
+                Page<K, V> feed = source.fetch(offset);
+                if (feed == null) {
+                    return;
+                }
+                if (offset > 0 && feed.oldestOffset() != null && offset < feed.oldestOffset() - 1) {
+                    log.warn("The {} change feed was purged past offset {}, resynchronising replica", feedName,
+                            offset);
+                    reset();
+                    continue;
+                }
+                feed.upserts().forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+                if (feed.nextOffset() != null) {
+                    offset = feed.nextOffset();
+                }
+                if (!feed.hasMore()) {
+                    caughtUp = true;
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not poll the {} change feed at offset {}: {}", feedName, offset, e.getMessage());
+        }
+    }
+
+    private void reset() {
+        entries.clear();
+        offset = 0;
+        caughtUp = false;
+    }
+
+    @FunctionalInterface
+    public interface PageSource<K, V> {
+
+        Page<K, V> fetch(long offset);
+    }
+
+    public record Page<K, V>(List<Map.Entry<K, V>> upserts, Long nextOffset, Long oldestOffset, boolean hasMore) {
+    }
+}
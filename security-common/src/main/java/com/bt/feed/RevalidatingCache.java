@@ -0,0 +1,161 @@
+package com.bt.feed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+// Entity-tag cache kept fresh by a versioned change feed. While the feed is followed cached entries are served
+// as-is; otherwise every read revalidates with a conditional request.
+public class RevalidatingCache<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(RevalidatingCache.class);
+
+    private final String feedName;
+    private final String versionHeader;
+    private final Predicate<V> cacheable;
+    private final Map<String, Revalidated<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile String feedId;
+    private volatile Long feedVersion;
+    private volatile boolean subscribed;
+
+    public RevalidatingCache(String feedName, String versionHeader, Predicate<V> cacheable) {
+        this.feedName = feedName;
+        this.versionHeader = versionHeader;
+        this.cacheable = cacheable;
+    }
+
+    public V get(String key, int maxEntries, Fetcher<V> fetcher, ToIntFunction<RuntimeException> statusOf) {
+        Revalidated<V> cached = entries.get(key);
+        if (cached != null && subscribed) {
+            return cached.body();
+        }
+
+        long observedGeneration = generation.get();
+        String entityTag = cached != null ? cached.entityTag() : null;
+        ResponseEntity<V> response;
+        try {
+            response = fetcher.fetch(entityTag);
+        } catch (RuntimeException e) {
+            int status = statusOf.applyAsInt(e);
+            if (cached != null && status == HttpStatus.NOT_MODIFIED.value()) {
+                log.debug("{} {} not modified since {}", feedName, key, entityTag);
+                return cached.body();
+            }
+            if (status == HttpStatus.NOT_FOUND.value()) {
+                entries.remove(key);
+            }
+            throw e;
+        }
+        if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return cached.body();
+        }
+        remember(key, maxEntries, observedGeneration, response.getHeaders(), response.getBody());
+        return response.getBody();
+    }
+
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public synchronized void poll(FeedSource source, int maxPages) {
+        try {
+            for (int page = 0; page < maxPages; page++) {
+                FeedPage feed = source.fetch(feedVersion);
+                if (feed == null) {
+                    subscribed = false;
+                    return;
+                }
+                if (feed.resyncRequired() || !Objects.equals(feed.feedId(), feedId)) {
+                    if (feedVersion != null) {
+                        log.warn("The {} change feed cannot resume from version {}, dropping {} cached entries",
+                                feedName, feedVersion, entries.size());
+                    }
+                    invalidateAll();
+                    feedId = feed.feedId();
+                } else {
+                    feed.changedKeys().forEach(this::evict);
+                }
+                feedVersion = feed.version();
+                if (!feed.hasMore()) {
+                    subscribed = true;
+                    return;
+                }
+            }
+            subscribed = false;
+        } catch (RuntimeException e) {
+            subscribed = false;
+            log.warn("Could not poll the {} change feed at version {}: {}", feedName, feedVersion, e.getMessage());
+        }
+    }
+
+    private void evict(String key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private void remember(String key, int maxEntries, long observedGeneration, HttpHeaders headers, V body) {
+        String entityTag = headers.getETag();
+        if (entityTag == null || body == null || !cacheable.test(body) || isBehindFeed(headers)) {
+            entries.remove(key);
+        } else if (entries.size() < maxEntries || entries.containsKey(key)) {
+            entries.put(key, new Revalidated<>(entityTag, body));
+            // A change that arrived while the request was in flight may be newer than this body.
+            if (generation.get() != observedGeneration) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    // The feed and the entry may be served by different instances; an older snapshot must not be cached.
+    private boolean isBehindFeed(HttpHeaders headers) {
+        String servedVersion = headers.getFirst(versionHeader);
+        Long followedVersion = feedVersion;
+        if (servedVersion == null || followedVersion == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(servedVersion) < followedVersion;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Fetcher<V> {
+
+        ResponseEntity<V> fetch(String entityTag);
+    }
+
+    @FunctionalInterface
+    public interface FeedSource {
+
+        FeedPage fetch(Long version);
+    }
+
+    public record FeedPage(String feedId, Long version, boolean resyncRequired, List<String> changedKeys,
+            boolean hasMore) {
+    }
+
+    private record Revalidated<V>(String entityTag, V body) {
+    }
+}
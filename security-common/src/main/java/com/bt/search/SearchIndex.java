@@ -0,0 +1,188 @@
+package com.bt.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Inverted index and ranking shared by the services; each service only decides how its entities are tokenized.
+public class SearchIndex {
+
+    private static final int EXACT_SCORE = 12;
+    private static final int PREFIX_SCORE = 8;
+    private static final int TRIGRAM_SCORE = 6;
+    private static final double MIN_TRIGRAM_OVERLAP = 0.5;
+
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<Long, Integer>> trigrams = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    public synchronized void put(Long id, Document document) {
+        remove(id);
+        document.tokens.forEach((token, weight) -> tokens
+                .computeIfAbsent(token, key -> new ConcurrentHashMap<>()).put(id, weight));
+        document.trigrams.forEach((trigram, weight) -> trigrams
+                .computeIfAbsent(trigram, key -> new ConcurrentHashMap<>()).put(id, weight));
+        documents.put(id, document);
+    }
+
+    public synchronized void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens.keySet()) {
+            removePosting(tokens, token, id);
+        }
+        for (String trigram : previous.trigrams.keySet()) {
+            removePosting(trigrams, trigram, id);
+        }
+    }
+
+    public Set<Long> ids() {
+        return Collections.unmodifiableSet(documents.keySet());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public List<Long> search(List<String> terms, int limit, int maxPrefixExpansion) {
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = scoreTerm(term, maxPrefixExpansion);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                Map<Long, Integer> combined = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : termScores.entrySet()) {
+                    Integer previous = scores.get(entry.getKey());
+                    if (previous != null) {
+                        combined.put(entry.getKey(), previous + entry.getValue());
+                    }
+                }
+                scores = combined;
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Comparator<Map.Entry<Long, Integer>> ranking = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private Map<Long, Integer> scoreTerm(String term, int maxPrefixExpansion) {
+        Map<Long, Integer> scores = new HashMap<>();
+
+        int expanded = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry : tokens
+                .subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+            int score = entry.getKey().equals(term) ? EXACT_SCORE : PREFIX_SCORE;
+            for (Map.Entry<Long, Integer> posting : entry.getValue().entrySet()) {
+                scores.merge(posting.getKey(), score * posting.getValue(), Math::max);
+            }
+            expanded += entry.getValue().size();
+            if (expanded >= maxPrefixExpansion) {
+                break;
+            }
+        }
+
+        Set<String> termTrigrams = trigramsOf(term);
+        if (!termTrigrams.isEmpty()) {
+            Map<Long, Integer> overlap = new HashMap<>();
+            Map<Long, Integer> weights = new HashMap<>();
+            for (String trigram : termTrigrams) {
+                Map<Long, Integer> postings = trigrams.get(trigram);
+                if (postings != null) {
+                    for (Map.Entry<Long, Integer> posting : postings.entrySet()) {
+                        overlap.merge(posting.getKey(), 1, Integer::sum);
+                        weights.merge(posting.getKey(), posting.getValue(), Math::max);
+                    }
+                }
+            }
+            int required = (int) Math.ceil(termTrigrams.size() * MIN_TRIGRAM_OVERLAP);
+            for (Map.Entry<Long, Integer> entry : overlap.entrySet()) {
+                if (entry.getValue() >= required) {
+                    int score = (int) Math.round(TRIGRAM_SCORE * weights.get(entry.getKey())
+                            * (double) entry.getValue() / termTrigrams.size());
+                    scores.merge(entry.getKey(), score, Math::max);
+                }
+            }
+        }
+        return scores;
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> trigramsOf(String term) {
+        if (term.length() < 3) {
+            return Set.of();
+        }
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            result.add(term.substring(i, i + 3));
+        }
+        return result;
+    }
+
+    private static void removePosting(Map<String, Map<Long, Integer>> index, String key, Long id) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // A weight multiplies the score of matches on that token, so primary fields outrank secondary ones.
+    public static final class Document {
+
+        private final Map<String, Integer> tokens = new HashMap<>();
+        private final Map<String, Integer> trigrams = new HashMap<>();
+
+        public Document token(String token, int weight) {
+            if (!token.isEmpty()) {
+                tokens.merge(token, weight, Math::max);
+            }
+            return this;
+        }
+
+        public Document trigrams(String term, int weight) {
+            for (String trigram : trigramsOf(term)) {
+                trigrams.merge(trigram, weight, Math::max);
+            }
+            return this;
+        }
+
+        public Document word(String word, int weight) {
+            return token(word, weight).trigrams(word, weight);
+        }
+    }
+}
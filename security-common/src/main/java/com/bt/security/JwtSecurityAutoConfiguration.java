@@ -0,0 +1,41 @@
+package com.bt.security;
+
+import com.bt.security.revocation.RevocationListPoller;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@AutoConfiguration
+@ConditionalOnProperty("jwt.secret")
+public class JwtSecurityAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtTokenProvider jwtTokenProvider(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration:86400000}") long jwtExpiration,
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheSize) {
+        return new JwtTokenProvider(jwtSecret, jwtExpiration, claimsCacheSize);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty("jwt.revocation.url")
+    public RevocationListPoller revocationListPoller(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${jwt.revocation.url}") String url,
+            @Value("${spring.application.name:service}") String serviceName,
+            @Value("${jwt.revocation.refresh-interval-seconds:30}") long refreshIntervalSeconds) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(2));
+        requestFactory.setReadTimeout(Duration.ofSeconds(5));
+        RestClient restClient = RestClient.builder().requestFactory(requestFactory).build();
+        return new RevocationListPoller(jwtTokenProvider, restClient, url, serviceName, refreshIntervalSeconds);
+    }
+}
@@ -0,0 +1,190 @@
+package com.bt.security;
+
+import com.bt.security.revocation.RevocationList;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class JwtTokenProvider {
+
+    public static final String SERVICE_ROLE = "SERVICE";
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final long SERVICE_TOKEN_EXPIRATION = Duration.ofMinutes(5).toMillis();
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private volatile RevocationList revocationList = RevocationList.EMPTY;
+
+    public JwtTokenProvider(String jwtSecret, long jwtExpiration, long claimsCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new UntilTokenExpiry(Duration.ofMillis(jwtExpiration)))
+                .build();
+    }
+
+    public String generateToken(Authentication authentication) {
+        return buildToken(authentication.getName(), null, jwtExpiration);
+    }
+
+    public String generateTokenForUser(String username, String role) {
+        return buildToken(username, role, jwtExpiration);
+    }
+
+    public String generateServiceToken(String serviceName) {
+        return buildToken("service:" + serviceName, SERVICE_ROLE, SERVICE_TOKEN_EXPIRATION);
+    }
+
+    public Optional<VerifiedToken> resolve(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified == null) {
+            verified = parse(token);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(token, verified);
+        }
+        if (verified.isExpired(Instant.now())) {
+            verifiedTokens.invalidate(token);
+            return Optional.empty();
+        }
+        if (revocationList.isRevoked(verified)) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    public boolean validateToken(String token) {
+        return resolve(token).isPresent();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return resolve(token).map(VerifiedToken::getUsername).orElse(null);
+    }
+
+    public String getRoleFromToken(String token) {
+        return resolve(token).map(VerifiedToken::getRole).orElse(null);
+    }
+
+    public List<GrantedAuthority> getAuthoritiesFromToken(String token) {
+        return resolve(token).map(VerifiedToken::getAuthorities).orElse(List.of());
+    }
+
+    public long getCachedTokenCount() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    public RevocationList getRevocationList() {
+        return revocationList;
+    }
+
+    public void setRevocationList(RevocationList revocationList) {
+        this.revocationList = revocationList;
+    }
+
+    public long getJwtExpiration() {
+        return jwtExpiration;
+    }
+
+    private String buildToken(String username, String role, long expirationMillis) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expirationMillis);
+
+        var builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .issuedAt(now)
+                .expiration(expiryDate);
+        if (role != null) {
+            builder.claim("role", role);
+        }
+        return builder.signWith(signingKey).compact();
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        List<String> roles = extractRoles(claims);
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+        }
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                roles.isEmpty() ? null : roles.get(0),
+                authorities,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> extractRoles(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role != null) {
+            return List.of(role);
+        }
+        List<String> roles = claims.get("roles", List.class);
+        return roles != null ? roles : List.of();
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long fallbackNanos;
+
+        private UntilTokenExpiry(Duration fallback) {
+            this.fallbackNanos = fallback.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            if (verified.getExpiresAt() == null) {
+                return fallbackNanos;
+            }
+            long remainingMillis = verified.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, Duration.ofMillis(remainingMillis).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
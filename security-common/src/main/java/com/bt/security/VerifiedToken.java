@@ -0,0 +1,54 @@
+package com.bt.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+public final class VerifiedToken {
+
+    private final String tokenId;
+    private final String username;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String tokenId, String username, String role, List<GrantedAuthority> authorities,
+            Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.role = role;
+        this.authorities = List.copyOf(authorities);
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bt.security.revocation;
+
+import com.bt.security.VerifiedToken;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class RevocationList {
+
+    public static final RevocationList EMPTY = build(0, Set.of(), Map.of(), 0.01);
+
+    private final long version;
+    private final BloomFilter tokenFilter;
+    private final Set<String> revokedTokenIds;
+    private final BloomFilter subjectFilter;
+    private final Map<String, Instant> revokedSubjects;
+
+    private RevocationList(long version, BloomFilter tokenFilter, Set<String> revokedTokenIds,
+            BloomFilter subjectFilter, Map<String, Instant> revokedSubjects) {
+        this.version = version;
+        this.tokenFilter = tokenFilter;
+        this.revokedTokenIds = revokedTokenIds;
+        this.subjectFilter = subjectFilter;
+        this.revokedSubjects = revokedSubjects;
+    }
+
+    public static RevocationList build(long version, Collection<String> tokenIds,
+            Map<String, Instant> subjectsRevokedBefore, double falsePositiveRate) {
+        BloomFilter tokenFilter = BloomFilter.create(tokenIds.size(), falsePositiveRate);
+        tokenIds.forEach(tokenFilter::put);
+        BloomFilter subjectFilter = BloomFilter.create(subjectsRevokedBefore.size(), falsePositiveRate);
+        subjectsRevokedBefore.keySet().forEach(subjectFilter::put);
+        return new RevocationList(version, tokenFilter, Set.copyOf(tokenIds), subjectFilter,
+                Map.copyOf(subjectsRevokedBefore));
+    }
+
+    public static RevocationList fromSnapshot(RevocationListSnapshot snapshot) {
+        Map<String, Instant> subjects = new HashMap<>();
+        snapshot.getRevokedSubjects().forEach((subject, cutoff) -> subjects.put(subject, Instant.ofEpochMilli(cutoff)));
+        return new RevocationList(
+                snapshot.getVersion(),
+                BloomFilter.fromWords(snapshot.getTokenFilterWords(), snapshot.getTokenFilterHashes()),
+                Set.copyOf(snapshot.getRevokedTokenIds()),
+                BloomFilter.fromWords(snapshot.getSubjectFilterWords(), snapshot.getSubjectFilterHashes()),
+                Map.copyOf(subjects));
+    }
+
+    public RevocationListSnapshot toSnapshot() {
+        Map<String, Long> subjects = new HashMap<>();
+        revokedSubjects.forEach((subject, cutoff) -> subjects.put(subject, cutoff.toEpochMilli()));
+        RevocationListSnapshot snapshot = new RevocationListSnapshot();
+        snapshot.setVersion(version);
+        snapshot.setTokenFilterWords(tokenFilter.toWords());
+        snapshot.setTokenFilterHashes(tokenFilter.getNumHashes());
+        snapshot.setRevokedTokenIds(revokedTokenIds);
+        snapshot.setSubjectFilterWords(subjectFilter.toWords());
+        snapshot.setSubjectFilterHashes(subjectFilter.getNumHashes());
+        snapshot.setRevokedSubjects(subjects);
+        return snapshot;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId != null && tokenFilter.mightContain(tokenId) && revokedTokenIds.contains(tokenId)) {
+            return true;
+        }
+        String subject = token.getUsername();
+        if (subject != null && subjectFilter.mightContain(subject)) {
+            Instant cutoff = revokedSubjects.get(subject);
+            return cutoff != null && (token.getIssuedAt() == null || issuedBefore(token.getIssuedAt(), cutoff));
+        }
+        return false;
+    }
+
+    // JWT iat has whole-second precision, so both sides are compared in seconds. A token issued in the same
+    // second as the revocation is accepted: this leaves a window of under a second for tokens issued just
+    // before it, but a user who logs in again straight after the revocation is not locked out.
+    private static boolean issuedBefore(Instant issuedAt, Instant cutoff) {
+        return issuedAt.truncatedTo(ChronoUnit.SECONDS).isBefore(cutoff.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return revokedTokenIds.size() + revokedSubjects.size();
+    }
+}
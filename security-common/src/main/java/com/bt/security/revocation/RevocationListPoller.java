@@ -0,0 +1,77 @@
+package com.bt.security.revocation;
+
+import com.bt.security.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class RevocationListPoller implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationListPoller.class);
+
+    private final JwtTokenProvider tokenProvider;
+    private final RestClient restClient;
+    private final String url;
+    private final String serviceName;
+    private final long refreshIntervalSeconds;
+    private ScheduledExecutorService scheduler;
+
+    public RevocationListPoller(JwtTokenProvider tokenProvider, RestClient restClient, String url,
+            String serviceName, long refreshIntervalSeconds) {
+        this.tokenProvider = tokenProvider;
+        this.restClient = restClient;
+        this.url = url;
+        this.serviceName = serviceName;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-revocation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public void refresh() {
+        long currentVersion = tokenProvider.getRevocationList().getVersion();
+        try {
+            ResponseEntity<RevocationListSnapshot> response = restClient.get()
+                    .uri(url + "?since={version}", currentVersion)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.generateServiceToken(serviceName))
+                    .retrieve()
+                    .toEntity(RevocationListSnapshot.class);
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED || response.getBody() == null) {
+                return;
+            }
+            RevocationList revocationList = RevocationList.fromSnapshot(response.getBody());
+            tokenProvider.setRevocationList(revocationList);
+            log.debug("Revocation list updated to version {} ({} entries)", revocationList.getVersion(),
+                    revocationList.size());
+        } catch (RestClientException e) {
+            log.warn("Could not refresh revocation list from {}, keeping version {}: {}", url, currentVersion,
+                    e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Failed to apply revocation list from {}", url, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bt.security.revocation;
+
+import java.util.Map;
+import java.util.Set;
+
+public class RevocationListSnapshot {
+
+    private long version;
+    private long[] tokenFilterWords;
+    private int tokenFilterHashes;
+    private Set<String> revokedTokenIds;
+    private long[] subjectFilterWords;
+    private int subjectFilterHashes;
+    private Map<String, Long> revokedSubjects;
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long[] getTokenFilterWords() {
+        return tokenFilterWords;
+    }
+
+    public void setTokenFilterWords(long[] tokenFilterWords) {
+        this.tokenFilterWords = tokenFilterWords;
+    }
+
+    public int getTokenFilterHashes() {
+        return tokenFilterHashes;
+    }
+
+    public void setTokenFilterHashes(int tokenFilterHashes) {
+        this.tokenFilterHashes = tokenFilterHashes;
+    }
+
+    public Set<String> getRevokedTokenIds() {
+        return revokedTokenIds;
+    }
+
+    public void setRevokedTokenIds(Set<String> revokedTokenIds) {
+        this.revokedTokenIds = revokedTokenIds;
+    }
+
+    public long[] getSubjectFilterWords() {
+        return subjectFilterWords;
+    }
+
+    public void setSubjectFilterWords(long[] subjectFilterWords) {
+        this.subjectFilterWords = subjectFilterWords;
+    }
+
+    public int getSubjectFilterHashes() {
+        return subjectFilterHashes;
+    }
+
+    public void setSubjectFilterHashes(int subjectFilterHashes) {
+        this.subjectFilterHashes = subjectFilterHashes;
+    }
+
+    public Map<String, Long> getRevokedSubjects() {
+        return revokedSubjects;
+    }
+
+    public void setRevokedSubjects(Map<String, Long> revokedSubjects) {
+        this.revokedSubjects = revokedSubjects;
+    }
+}
@@ -0,0 +1,67 @@
+package com.bt.web;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RestControllerAdvice
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FILTER_ID = "sparseFieldset";
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final int MAX_CACHED_FIELDSETS = 256;
+
+    private final Map<String, FilterProvider> filterCache = new ConcurrentHashMap<>();
+
+    public static SimpleFilterProvider defaultFilterProvider() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (!StringUtils.hasText(fields)) {
+            return;
+        }
+        bodyContainer.setFilters(resolveFilters(fields));
+    }
+
+    private FilterProvider resolveFilters(String fields) {
+        FilterProvider cached = filterCache.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        Set<String> names = new TreeSet<>(StringUtils.commaDelimitedListToSet(fields.replace(" ", "")));
+        names.remove("");
+        String canonical = String.join(",", names);
+        FilterProvider provider = filterCache.get(canonical);
+        if (provider == null) {
+            provider = new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+        }
+        if (filterCache.size() < MAX_CACHED_FIELDSETS) {
+            filterCache.putIfAbsent(canonical, provider);
+            filterCache.putIfAbsent(fields, provider);
+        }
+        return provider;
+    }
+}
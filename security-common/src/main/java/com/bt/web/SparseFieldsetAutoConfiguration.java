@@ -0,0 +1,26 @@
+package com.bt.web;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(AbstractMappingJacksonResponseBodyAdvice.class)
+public class SparseFieldsetAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SparseFieldsetAdvice sparseFieldsetAdvice() {
+        return new SparseFieldsetAdvice();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder -> builder.filters(SparseFieldsetAdvice.defaultFilterProvider());
+    }
+}
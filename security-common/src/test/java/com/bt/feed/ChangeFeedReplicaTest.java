@@ -0,0 +1,65 @@
+package com.bt.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChangeFeedReplica Tests")
+class ChangeFeedReplicaTest {
+
+    @Test
+    @DisplayName("Should serve entries only once the feed is caught up")
+    void shouldServeEntriesOnceCaughtUp() {
+        ChangeFeedReplica<Long, String> replica = new ChangeFeedReplica<>("test");
+
+        replica.poll(offset -> new ChangeFeedReplica.Page<>(List.of(Map.entry(1L, "first")), 1L, 1L, true), 1);
+
+        assertFalse(replica.isCaughtUp());
+        assertTrue(replica.find(1L).isEmpty());
+
+        replica.poll(offset -> new ChangeFeedReplica.Page<>(List.of(Map.entry(2L, "second")), 2L, 1L, false), 5);
+
+        assertTrue(replica.isCaughtUp());
+        assertEquals(2L, replica.getOffset());
+        assertEquals("first", replica.find(1L).orElseThrow());
+        assertEquals("second", replica.find(2L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the start when the feed was purged past the offset")
+    void shouldResyncWhenFeedWasPurged() {
+        ChangeFeedReplica<Long, String> replica = new ChangeFeedReplica<>("test");
+        replica.poll(offset -> new ChangeFeedReplica.Page<>(List.of(Map.entry(1L, "stale")), 3L, 1L, false), 1);
+        List<Long> requested = new ArrayList<>();
+
+        replica.poll(offset -> {
+            requested.add(offset);
+            return new ChangeFeedReplica.Page<>(
+                    offset == 0 ? List.of(Map.entry(2L, "fresh")) : List.of(), 10L, 8L, false);
+        }, 5);
+
+        assertEquals(List.of(3L, 0L), requested);
+        assertEquals(10L, replica.getOffset());
+        assertTrue(replica.find(1L).isEmpty());
+        assertEquals("fresh", replica.find(2L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should keep the replica when polling fails")
+    void shouldKeepReplicaWhenPollFails() {
+        ChangeFeedReplica<Long, String> replica = new ChangeFeedReplica<>("test");
+        replica.poll(offset -> new ChangeFeedReplica.Page<>(List.of(Map.entry(1L, "kept")), 1L, 1L, false), 1);
+
+        replica.poll(offset -> {
+            throw new IllegalStateException("down");
+        }, 1);
+
+        assertEquals(1L, replica.getOffset());
+        assertEquals("kept", replica.find(1L).orElseThrow());
+    }
+}
@@ -0,0 +1,61 @@
+package com.bt.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RevalidatingCache Tests")
+class RevalidatingCacheTest {
+
+    private static final ToIntFunction<RuntimeException> STATUS = e ->
+            e instanceof HttpClientErrorException clientError ? clientError.getStatusCode().value() : -1;
+
+    private final RevalidatingCache<String> cache = new RevalidatingCache<>("test", "X-Version", body -> true);
+
+    @Test
+    @DisplayName("Should not cache a body fetched while the feed evicted its key")
+    void shouldNotCacheBodyRacingAnEviction() {
+        cache.poll(version -> new RevalidatingCache.FeedPage("feed-1", 1L, true, List.of(), false), 1);
+
+        String body = cache.get("A", 10, entityTag -> {
+            cache.poll(version -> new RevalidatingCache.FeedPage("feed-1", 2L, false, List.of("A"), false), 1);
+            return ResponseEntity.ok().eTag("a1").body("stale");
+        }, STATUS);
+
+        assertEquals("stale", body);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop a cached entry that no longer exists")
+    void shouldEvictOnNotFound() {
+        cache.get("A", 10, entityTag -> ResponseEntity.ok().eTag("a1").body("first"), STATUS);
+        assertEquals(1, cache.size());
+
+        assertThrows(HttpClientErrorException.class, () -> cache.get("A", 10, entityTag -> {
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "gone", null, null, null);
+        }, STATUS));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should stop serving entries as-is when the feed becomes unavailable")
+    void shouldRevalidateWhenFeedFails() {
+        cache.poll(version -> new RevalidatingCache.FeedPage("feed-1", 1L, true, List.of(), false), 1);
+        assertTrue(cache.isSubscribed());
+
+        cache.poll(version -> {
+            throw new IllegalStateException("down");
+        }, 1);
+
+        assertFalse(cache.isSubscribed());
+    }
+}
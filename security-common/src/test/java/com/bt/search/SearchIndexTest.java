@@ -0,0 +1,42 @@
+package com.bt.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchIndex Tests")
+class SearchIndexTest {
+
+    @Test
+    @DisplayName("Should rank exact over prefix over trigram matches and weight primary fields higher")
+    void shouldRankMatches() {
+        SearchIndex index = new SearchIndex();
+        index.put(1L, new SearchIndex.Document().word("deposit", 1));
+        index.put(2L, new SearchIndex.Document().word("depositor", 1));
+        index.put(3L, new SearchIndex.Document().word("deposits", 2));
+        index.put(4L, new SearchIndex.Document().word("savings", 1));
+
+        assertEquals(List.of(3L, 1L, 2L), index.search(List.of("deposit"), 10, 100));
+        assertEquals(List.of(3L), index.search(List.of("deposit"), 1, 100));
+        assertEquals(List.of(4L), index.search(List.of("savngs"), 10, 100));
+        assertTrue(index.search(List.of("loan"), 10, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should require every term and drop postings on remove")
+    void shouldIntersectTermsAndRemove() {
+        SearchIndex index = new SearchIndex();
+        index.put(1L, new SearchIndex.Document().word("fixed", 1).word("deposit", 1));
+        index.put(2L, new SearchIndex.Document().word("recurring", 1).word("deposit", 1));
+
+        assertEquals(List.of(1L), index.search(List.of("fix", "deposit"), 10, 100));
+
+        index.remove(1L);
+
+        assertTrue(index.search(List.of("fixed"), 10, 100).isEmpty());
+        assertEquals(1, index.size());
+    }
+}
@@ -1,14 +1,19 @@
-package com.bt.customer.security;
+package com.bt.security;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -17,7 +22,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("JwtTokenProvider Tests")
 class JwtTokenProviderTest {
 
-    @InjectMocks
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
@@ -25,9 +31,7 @@ class JwtTokenProviderTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
-                "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
-        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 86400000L);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000L, 100);
     }
 
     @Test
@@ -132,4 +136,57 @@ class JwtTokenProviderTest {
         String username = jwtTokenProvider.getUsernameFromToken(token);
         assertEquals("testuser", username);
     }
+
+    @Test
+    @DisplayName("Should parse a token once and serve repeat lookups from the claims cache")
+    void shouldCacheVerifiedClaims() {
+        String token = jwtTokenProvider.generateTokenForUser("testuser", "ADMIN");
+
+        VerifiedToken first = jwtTokenProvider.resolve(token).orElseThrow();
+        VerifiedToken second = jwtTokenProvider.resolve(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("ADMIN", jwtTokenProvider.getRoleFromToken(token));
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), first.getAuthorities());
+        assertNotNull(first.getTokenId());
+        assertEquals(1, jwtTokenProvider.getCachedTokenCount());
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void shouldRejectExpiredToken() {
+        String expired = Jwts.builder()
+                .subject("testuser")
+                .claim("role", "CUSTOMER")
+                .issuedAt(new Date(System.currentTimeMillis() - 120_000))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertFalse(jwtTokenProvider.validateToken(expired));
+        assertNull(jwtTokenProvider.getUsernameFromToken(expired));
+    }
+
+    @Test
+    @DisplayName("Should read authorities from roles list claim")
+    void shouldReadAuthoritiesFromRolesClaim() {
+        String token = Jwts.builder()
+                .subject("officer")
+                .claim("roles", List.of("BANKOFFICER", "ROLE_ADMIN"))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_BANKOFFICER"), new SimpleGrantedAuthority("ROLE_ADMIN")),
+                jwtTokenProvider.getAuthoritiesFromToken(token));
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with a different key")
+    void shouldRejectTokenSignedWithDifferentKey() {
+        JwtTokenProvider otherIssuer = new JwtTokenProvider(SECRET.replace('4', '5'), 86400000L, 100);
+        String token = otherIssuer.generateTokenForUser("testuser", "CUSTOMER");
+
+        assertFalse(jwtTokenProvider.validateToken(token));
+    }
 }
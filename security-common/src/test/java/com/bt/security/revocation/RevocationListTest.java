@@ -0,0 +1,119 @@
+package com.bt.security.revocation;
+
+import com.bt.security.JwtTokenProvider;
+import com.bt.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RevocationList Tests")
+class RevocationListTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86400000L, 100);
+    }
+
+    @Test
+    @DisplayName("Should reject a token once its id is revoked, even when its claims are cached")
+    void shouldRejectRevokedTokenId() {
+        String token = jwtTokenProvider.generateTokenForUser("testuser", "CUSTOMER");
+        String other = jwtTokenProvider.generateTokenForUser("testuser", "CUSTOMER");
+        VerifiedToken verified = jwtTokenProvider.resolve(token).orElseThrow();
+
+        jwtTokenProvider.setRevocationList(
+                RevocationList.build(1, Set.of(verified.getTokenId()), Map.of(), 0.001));
+
+        assertFalse(jwtTokenProvider.validateToken(token));
+        assertTrue(jwtTokenProvider.validateToken(other));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before a subject-wide revocation only")
+    void shouldRejectTokensIssuedBeforeSubjectCutoff() {
+        Instant cutoff = Instant.now();
+        VerifiedToken before = token("compromised", cutoff.minusSeconds(60));
+        VerifiedToken after = token("compromised", cutoff.plusSeconds(60));
+        VerifiedToken unrelated = token("someone-else", cutoff.minusSeconds(60));
+
+        RevocationList list = RevocationList.build(1, Set.of(), Map.of("compromised", cutoff), 0.001);
+
+        assertTrue(list.isRevoked(before));
+        assertFalse(list.isRevoked(after));
+        assertFalse(list.isRevoked(unrelated));
+    }
+
+    @Test
+    @DisplayName("Should accept a token issued in the same second after a subject-wide revocation")
+    void shouldAcceptTokenIssuedInTheSameSecondAfterCutoff() throws Exception {
+        Instant revokedAt = Instant.now();
+        while (revokedAt.getNano() > 300_000_000) {
+            Thread.sleep(10);
+            revokedAt = Instant.now();
+        }
+        RevocationList list = RevocationList.build(1, Set.of(), Map.of("testuser", revokedAt), 0.001);
+        jwtTokenProvider.setRevocationList(list);
+        Thread.sleep(100);
+
+        String token = jwtTokenProvider.generateTokenForUser("testuser", "CUSTOMER");
+        VerifiedToken verified = jwtTokenProvider.resolve(token).orElseThrow();
+
+        assertEquals(revokedAt.getEpochSecond(), verified.getIssuedAt().getEpochSecond());
+        assertFalse(list.isRevoked(verified));
+        assertTrue(jwtTokenProvider.validateToken(token));
+        assertTrue(list.isRevoked(token("testuser", revokedAt.minusSeconds(1))));
+    }
+
+    @Test
+    @DisplayName("Should survive a snapshot round trip")
+    void shouldRoundTripThroughSnapshot() {
+        String revokedId = UUID.randomUUID().toString();
+        Instant cutoff = Instant.ofEpochMilli(System.currentTimeMillis());
+        RevocationList original = RevocationList.build(42, Set.of(revokedId), Map.of("compromised", cutoff), 0.001);
+
+        RevocationList copy = RevocationList.fromSnapshot(original.toSnapshot());
+
+        assertEquals(42, copy.getVersion());
+        assertEquals(2, copy.size());
+        assertTrue(copy.isRevoked(new VerifiedToken(revokedId, "testuser", "CUSTOMER", List.of(), Instant.now(), null)));
+        assertTrue(copy.isRevoked(token("compromised", cutoff.minusSeconds(1))));
+    }
+
+    @Test
+    @DisplayName("Bloom filter should have no false negatives and a bounded false positive rate")
+    void bloomFilterShouldHonourFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    private VerifiedToken token(String subject, Instant issuedAt) {
+        return new VerifiedToken(UUID.randomUUID().toString(), subject, "CUSTOMER", List.of(), issuedAt,
+                issuedAt.plusSeconds(3600));
+    }
+}
@@ -2,6 +2,10 @@
 echo Starting BT Bank Microservices...
 echo.
 
+echo Installing shared security module...
+cd security-common && call .\mvnw.cmd -q install -DskipTests && cd ..
+if errorlevel 1 exit /b 1
+
 echo Starting Customer Service on port 8081...
 start "Customer Service" cmd /k "cd customer && .\mvnw.cmd spring-boot:run"
 
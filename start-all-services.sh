@@ -3,6 +3,10 @@
 echo "Starting BT Bank Microservices..."
 echo
 
+echo "Installing shared security module..."
+(cd security-common && mvn -q install -DskipTests) || exit 1
+
+
 echo "Starting Customer Service on port 8081..."
 gnome-terminal -- bash -c "cd customer && mvn spring-boot:run; exec bash" &
 